@@ -0,0 +1,72 @@
+package org.example.tasklist.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.tasklist.service.props.CacheProperties;
+import org.example.tasklist.service.props.NearCacheProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(
+            final RedisConnectionFactory connectionFactory,
+            final StringRedisTemplate redisTemplate,
+            final NearCacheProperties nearCacheProperties,
+            final CacheProperties cacheProperties,
+            final MeterRegistry meterRegistry) {
+        CacheValueSerializer valueSerializer = new CacheValueSerializer(
+                getClass().getClassLoader());
+        RedisCacheConfiguration defaults = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(
+                        valueSerializer));
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        for (String cacheName : cacheProperties.getSpecs().keySet()) {
+            configurations.put(cacheName, defaults.entryTtl(
+                    cacheProperties.getTtl(cacheName)));
+        }
+        RedisCacheManager remoteCacheManager = RedisCacheManager
+                .builder(connectionFactory)
+                .cacheDefaults(defaults.entryTtl(
+                        cacheProperties.getDefaultTtl()))
+                .withInitialCacheConfigurations(configurations)
+                .build();
+        remoteCacheManager.afterPropertiesSet();
+        return new TwoTierCacheManager(remoteCacheManager,
+                valueSerializer,
+                nearCacheProperties,
+                cacheProperties,
+                meterRegistry,
+                message -> redisTemplate.convertAndSend(
+                        nearCacheProperties.getChannel(), message));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationContainer(
+            final RedisConnectionFactory connectionFactory,
+            final TwoTierCacheManager cacheManager,
+            final NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container =
+                new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) ->
+                        cacheManager.onInvalidation(new String(
+                                message.getBody(),
+                                StandardCharsets.UTF_8)),
+                new ChannelTopic(nearCacheProperties.getChannel()));
+        return container;
+    }
+}
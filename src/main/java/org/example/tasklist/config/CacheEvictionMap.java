@@ -0,0 +1,57 @@
+package org.example.tasklist.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CacheEvictionMap {
+
+    public static final String TASK_BY_ID = "TaskService::getById";
+    public static final String USER_BY_ID = "UserService::getById";
+    public static final String USER_BY_USERNAME =
+            "UserService::getByUsername";
+    public static final String TASK_AUTHOR = "UserService::getTaskAuthor";
+
+    private final CacheManager cacheManager;
+
+    public void evictTask(final Long taskId) {
+        List<Runnable> evictions = new ArrayList<>();
+        evictions.add(() -> evict(TASK_BY_ID, taskId));
+        evictions.add(() -> evict(TASK_AUTHOR, taskId));
+        TransactionCallbacks.afterCommit(
+                () -> evictions.forEach(Runnable::run));
+    }
+
+    public void evictUser(final Long userId,
+                          final Collection<String> usernames,
+                          final Collection<Long> taskIds) {
+        if (userId == null) {
+            return;
+        }
+        List<Runnable> evictions = new ArrayList<>();
+        evictions.add(() -> evict(USER_BY_ID, userId));
+        for (String username : usernames) {
+            evictions.add(() -> evict(USER_BY_USERNAME, username));
+        }
+        for (Long taskId : taskIds) {
+            evictions.add(() -> evict(TASK_AUTHOR, taskId));
+        }
+        TransactionCallbacks.afterCommit(
+                () -> evictions.forEach(Runnable::run));
+    }
+
+
+    private void evict(final String cacheName, final Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
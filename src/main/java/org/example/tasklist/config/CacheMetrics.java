@@ -0,0 +1,105 @@
+package org.example.tasklist.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.service.props.CacheProperties;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    private static final long SCAN_COUNT = 1000;
+    private static final byte[] MEMORY_USAGE =
+            "USAGE".getBytes(StandardCharsets.US_ASCII);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> keys = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> memory = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${cache.metrics-interval:1m}")
+    public void collect() {
+        for (String cacheName : cacheProperties.getSpecs().keySet()) {
+            try {
+                collect(cacheName);
+            } catch (Exception e) {
+                log.warn("Cache metrics for {} failed", cacheName, e);
+            }
+        }
+    }
+
+    private void collect(final String cacheName) {
+        long[] result = redisTemplate.execute(
+                (RedisCallback<long[]>) connection ->
+                        scan(connection, cacheName));
+        if (result == null) {
+            return;
+        }
+        gauge(keys, "cache.keys", cacheName).set(result[0]);
+        gauge(memory, "cache.memory", cacheName).set(result[1]);
+    }
+
+    private long[] scan(final RedisConnection connection,
+                        final String cacheName) {
+        int sampleSize = cacheProperties.getMemorySampleSize();
+        long count = 0;
+        long sampledBytes = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(cacheName + "::*")
+                .count(SCAN_COUNT)
+                .build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                byte[] key = cursor.next();
+                if (count < sampleSize) {
+                    sampledBytes += memoryUsage(connection.execute(
+                            "MEMORY", MEMORY_USAGE, key));
+                }
+                count++;
+            }
+        }
+        long sampled = Math.min(count, sampleSize);
+        long bytes = 0;
+        if (sampled > 0) {
+            bytes = sampledBytes * count / sampled;
+        }
+        return new long[]{count, bytes};
+    }
+
+    private long memoryUsage(final Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return 0;
+    }
+
+    private AtomicLong gauge(final Map<String, AtomicLong> values,
+                             final String name,
+                             final String cacheName) {
+        return values.computeIfAbsent(cacheName, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .tag("cache", cacheName)
+                    .tag("tier", "remote")
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
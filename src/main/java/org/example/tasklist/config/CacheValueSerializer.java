@@ -0,0 +1,237 @@
+package org.example.tasklist.config;
+
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.hibernate.Hibernate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte VERSION = 2;
+
+    private static final byte JAVA = 0;
+    private static final byte TASK = 1;
+    private static final byte USER = 2;
+    private static final byte BOOLEAN = 3;
+    private static final int HEADER_LENGTH = 3;
+    private static final int NULL_LENGTH = -1;
+
+    private final JdkSerializationRedisSerializer javaSerializer;
+
+    public CacheValueSerializer(final ClassLoader classLoader) {
+        this.javaSerializer = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] serialize(final Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+            if (value instanceof Task task) {
+                out.writeByte(TASK);
+                writeTask(out, task);
+            } else if (value instanceof User user) {
+                out.writeByte(USER);
+                writeUser(out, user);
+            } else if (value instanceof Boolean flag) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(flag);
+            } else {
+                out.writeByte(JAVA);
+                out.write(javaSerializer.serialize(value));
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Cannot serialize cache value", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return javaSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != VERSION) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                    bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH));
+            return switch (bytes[2]) {
+                case TASK -> readTask(in);
+                case USER -> readUser(in);
+                case BOOLEAN -> in.readBoolean();
+                case JAVA -> javaSerializer.deserialize(Arrays.copyOfRange(
+                        bytes, HEADER_LENGTH, bytes.length));
+                default -> null;
+            };
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Cannot deserialize cache value", e);
+        }
+    }
+
+    private void writeTask(final DataOutputStream out,
+                           final Task task) throws IOException {
+        writeLong(out, task.getId());
+        writeString(out, task.getTitle());
+        writeString(out, task.getDescription());
+        if (task.getStatus() == null) {
+            writeString(out, null);
+        } else {
+            writeString(out, task.getStatus().name());
+        }
+        LocalDateTime expirationDate = task.getExpirationDate();
+        out.writeBoolean(expirationDate != null);
+        if (expirationDate != null) {
+            out.writeLong(expirationDate.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(expirationDate.getNano());
+        }
+        writeStrings(out, task.getImages());
+        writeStrings(out, task.getThumbnails());
+    }
+
+    private Task readTask(final DataInputStream in) throws IOException {
+        Task task = new Task();
+        task.setId(readLong(in));
+        task.setTitle(readString(in));
+        task.setDescription(readString(in));
+        String status = readString(in);
+        if (status != null) {
+            task.setStatus(Status.valueOf(status));
+        }
+        if (in.readBoolean()) {
+            task.setExpirationDate(LocalDateTime.ofEpochSecond(
+                    in.readLong(), in.readInt(), ZoneOffset.UTC));
+        }
+        task.setImages(readStrings(in));
+        task.setThumbnails(readStrings(in));
+        return task;
+    }
+
+    private void writeUser(final DataOutputStream out,
+                           final User user) throws IOException {
+        writeLong(out, user.getId());
+        writeString(out, user.getName());
+        writeString(out, user.getUsername());
+        writeString(out, user.getPassword());
+        if (user.getRoles() == null
+                || !Hibernate.isInitialized(user.getRoles())) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(user.getRoles().size());
+        for (Role role : user.getRoles()) {
+            writeString(out, role.name());
+        }
+    }
+
+    private User readUser(final DataInputStream in) throws IOException {
+        User user = new User();
+        user.setId(readLong(in));
+        user.setName(readString(in));
+        user.setUsername(readString(in));
+        user.setPassword(readString(in));
+        int size = in.readInt();
+        if (size != NULL_LENGTH) {
+            Set<Role> roles = EnumSet.noneOf(Role.class);
+            for (int i = 0; i < size; i++) {
+                roles.add(Role.valueOf(readString(in)));
+            }
+            user.setRoles(roles);
+        }
+        return user;
+    }
+
+    private void writeLong(final DataOutputStream out,
+                           final Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readLong(final DataInputStream in) throws IOException {
+        if (in.readBoolean()) {
+            return in.readLong();
+        }
+        return null;
+    }
+
+    private void writeString(final DataOutputStream out,
+                             final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(final DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeStrings(final DataOutputStream out,
+                              final Collection<String> values)
+            throws IOException {
+        if (values == null || !Hibernate.isInitialized(values)) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private List<String> readStrings(final DataInputStream in)
+            throws IOException {
+        int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
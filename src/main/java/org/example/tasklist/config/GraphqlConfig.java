@@ -1,6 +1,7 @@
 package org.example.tasklist.config;
 
 import graphql.schema.GraphQLScalarType;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
@@ -23,4 +24,11 @@ public class GraphqlConfig {
                 .scalar(localDatetimeScalar())
                 .build();
     }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedDocumentCustomizer(
+            final PersistedDocumentProvider persistedDocumentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl
+                .preparsedDocumentProvider(persistedDocumentProvider));
+    }
 }
@@ -0,0 +1,89 @@
+package org.example.tasklist.config;
+
+import io.minio.MinioAsyncClient;
+import io.minio.messages.Part;
+
+import java.io.InputStream;
+
+/**
+ * Exposes the S3 multipart upload calls that MinIO keeps protected, so
+ * parts can be uploaded in parallel straight into the final object.
+ */
+public class MinioMultipartClient extends MinioAsyncClient {
+
+    public MinioMultipartClient(final MinioAsyncClient client) {
+        super(client);
+    }
+
+    /**
+     * Starts a multipart upload.
+     *
+     * @param bucket bucket of the object
+     * @param object name of the object
+     * @return upload id to pass to the other calls
+     * @throws Exception when the upload can not be started
+     */
+    public String createUpload(final String bucket,
+                               final String object) throws Exception {
+        return createMultipartUpload(bucket, null, object,
+                newMultimap(), newMultimap())
+                .result()
+                .uploadId();
+    }
+
+    /**
+     * Uploads one part of a multipart upload.
+     *
+     * @param bucket bucket of the object
+     * @param object name of the object
+     * @param uploadId id returned by {@link #createUpload}
+     * @param partNumber part number, starting with 1
+     * @param stream part content
+     * @param length part length in bytes
+     * @return part to pass to {@link #completeUpload}
+     * @throws Exception when the part can not be uploaded
+     */
+    public Part uploadPart(final String bucket,
+                           final String object,
+                           final String uploadId,
+                           final int partNumber,
+                           final InputStream stream,
+                           final long length) throws Exception {
+        String etag = uploadPart(bucket, null, object, stream, length,
+                uploadId, partNumber, newMultimap(), newMultimap())
+                .etag();
+        return new Part(partNumber, etag);
+    }
+
+    /**
+     * Assembles the uploaded parts into the object.
+     *
+     * @param bucket bucket of the object
+     * @param object name of the object
+     * @param uploadId id returned by {@link #createUpload}
+     * @param parts uploaded parts ordered by part number
+     * @throws Exception when the upload can not be completed
+     */
+    public void completeUpload(final String bucket,
+                               final String object,
+                               final String uploadId,
+                               final Part[] parts) throws Exception {
+        completeMultipartUpload(bucket, null, object, uploadId, parts,
+                newMultimap(), newMultimap());
+    }
+
+    /**
+     * Aborts a multipart upload and drops its uploaded parts.
+     *
+     * @param bucket bucket of the object
+     * @param object name of the object
+     * @param uploadId id returned by {@link #createUpload}
+     * @throws Exception when the upload can not be aborted
+     */
+    public void abortUpload(final String bucket,
+                            final String object,
+                            final String uploadId) throws Exception {
+        abortMultipartUpload(bucket, null, object, uploadId,
+                newMultimap(), newMultimap());
+    }
+}
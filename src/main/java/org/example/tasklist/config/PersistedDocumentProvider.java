@@ -0,0 +1,145 @@
+package org.example.tasklist.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.service.props.GraphqlDocumentProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class PersistedDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+
+    private final GraphqlDocumentProperties graphqlDocumentProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<String, PersistedDocument> documents;
+
+    @PostConstruct
+    public void init() {
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(graphqlDocumentProperties.getMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, documents,
+                "graphql.documents");
+    }
+
+    public String getQuery(final String hash) {
+        PersistedDocument document = documents.getIfPresent(
+                hash.toLowerCase(Locale.ROOT));
+        return document == null ? null : document.getQuery();
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parse) {
+        String query = executionInput.getQuery();
+        String hash = persistedHash(executionInput);
+        if (hash == null) {
+            if (query.length() > graphqlDocumentProperties
+                    .getMaxQueryLength()) {
+                return parse.apply(executionInput);
+            }
+            return load(sha256(query), executionInput, parse);
+        }
+        if (query == null || query.isBlank()) {
+            PersistedDocument document = documents.getIfPresent(
+                    hash.toLowerCase(Locale.ROOT));
+            if (document == null) {
+                return error(new PersistedQueryNotFound(hash), hash);
+            }
+            return document.getEntry();
+        }
+        String key = sha256(query);
+        if (!hash.equalsIgnoreCase(key)) {
+            return error(new PersistedQueryIdInvalid(hash), hash);
+        }
+        return load(key, executionInput, parse);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parse) {
+        return CompletableFuture.completedFuture(
+                getDocument(executionInput, parse));
+    }
+
+    private PreparsedDocumentEntry load(
+            final String key,
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parse) {
+        return documents.get(key, ignored -> new PersistedDocument(
+                        executionInput.getQuery(),
+                        parse.apply(executionInput)))
+                .getEntry();
+    }
+
+    private PreparsedDocumentEntry error(final PersistedQueryError error,
+                                         final String hash) {
+        return new PreparsedDocumentEntry(persistedQueryError(error, hash));
+    }
+
+    static GraphQLError persistedQueryError(final PersistedQueryError error,
+                                            final String hash) {
+        return GraphqlErrorBuilder.newError()
+                .errorType(error)
+                .message(error.getMessage())
+                .extensions(Map.of("persistedQueryId", hash))
+                .build();
+    }
+
+    private String persistedHash(final ExecutionInput executionInput) {
+        Object persistedQuery = executionInput.getExtensions()
+                .get(PERSISTED_QUERY);
+        if (persistedQuery instanceof Map<?, ?> extension
+                && extension.get(SHA256_HASH) instanceof String hash) {
+            return hash;
+        }
+        return null;
+    }
+
+    private String sha256(final String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class PersistedDocument {
+
+        private final String query;
+        private final PreparsedDocumentEntry entry;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.tasklist.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.graphql.GraphQlProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PersistedQueryFilter extends OncePerRequestFilter {
+
+    private static final byte[] MARKER =
+            "persistedQuery".getBytes(StandardCharsets.UTF_8);
+    private static final String QUERY = "query";
+    private static final String HASH_POINTER =
+            "/extensions/persistedQuery/sha256Hash";
+
+    private final PersistedDocumentProvider persistedDocumentProvider;
+    private final GraphQlProperties graphQlProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        String path = request.getRequestURI()
+                .substring(request.getContextPath().length());
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !graphQlProperties.getPath().equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        if (contains(body, MARKER)) {
+            JsonNode json = readTree(body);
+            String hash = json == null
+                    ? null
+                    : json.at(HASH_POINTER).textValue();
+            if (hash != null && json instanceof ObjectNode node
+                    && !StringUtils.hasText(node.path(QUERY).textValue())) {
+                String query = persistedDocumentProvider.getQuery(hash);
+                if (query == null) {
+                    writeNotFound(response, hash);
+                    return;
+                }
+                node.put(QUERY, query);
+                body = objectMapper.writeValueAsBytes(node);
+            }
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private JsonNode readTree(final byte[] body) throws IOException {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void writeNotFound(final HttpServletResponse response,
+                               final String hash) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "errors", List.of(PersistedDocumentProvider
+                        .persistedQueryError(
+                                new PersistedQueryNotFound(hash), hash)
+                        .toSpecification())));
+    }
+
+    private static boolean contains(final byte[] body, final byte[] marker) {
+        for (int i = 0; i <= body.length - marker.length; i++) {
+            int j = 0;
+            while (j < marker.length && body[i + j] == marker[j]) {
+                j++;
+            }
+            if (j == marker.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class CachedBodyRequest
+            extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(final HttpServletRequest request,
+                                  final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream stream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return stream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return stream.read();
+                }
+
+                @Override
+                public int read(final byte[] b, final int off,
+                                final int len) {
+                    return stream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(
+                    getInputStream(),
+                    encoding == null
+                            ? StandardCharsets.UTF_8
+                            : Charset.forName(encoding)));
+        }
+    }
+}
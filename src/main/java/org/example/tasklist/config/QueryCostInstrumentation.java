@@ -0,0 +1,201 @@
+package org.example.tasklist.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.service.props.GraphqlCostProperties;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final String INTROSPECTION_PREFIX = "__";
+
+    private final GraphqlCostProperties graphqlCostProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<String, Window> windows;
+    private DistributionSummary costSummary;
+
+    @PostConstruct
+    public void init() {
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(graphqlCostProperties.getMaxUsers())
+                .expireAfterAccess(graphqlCostProperties.getWindow())
+                .build();
+        this.costSummary = DistributionSummary.builder("graphql.query.cost")
+                .description("Estimated cost of GraphQL operations")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            final InstrumentationExecuteOperationParameters parameters,
+            final InstrumentationState state) {
+        QueryCost queryCost = measure(parameters.getExecutionContext());
+        costSummary.record(queryCost.getCost());
+        int maxDepth = graphqlCostProperties.getMaxDepth();
+        if (queryCost.getDepth() > maxDepth) {
+            throw reject("depth", "Query depth " + queryCost.getDepth()
+                    + " exceeds the limit of " + maxDepth + ".");
+        }
+        long maxCost = graphqlCostProperties.getMaxCost();
+        if (queryCost.getCost() > maxCost) {
+            throw reject("cost", "Query cost " + queryCost.getCost()
+                    + " exceeds the limit of " + maxCost + ".");
+        }
+        Window window = windows.get(currentUser(), key -> new Window());
+        if (!window.tryCharge(queryCost.getCost(),
+                System.currentTimeMillis(),
+                graphqlCostProperties.getWindow().toMillis(),
+                graphqlCostProperties.getBudget())) {
+            throw reject("budget", "Query cost budget is exhausted, "
+                    + "retry later.");
+        }
+        return SimpleInstrumentationContext.noOp();
+    }
+
+    QueryCost measure(final ExecutionContext context) {
+        QueryTraverser traverser = QueryTraverser.newQueryTraverser()
+                .schema(context.getGraphQLSchema())
+                .document(context.getDocument())
+                .operationName(context.getExecutionInput()
+                        .getOperationName())
+                .coercedVariables(context.getCoercedVariables())
+                .build();
+        Map<QueryVisitorFieldEnvironment, Long> costs = new HashMap<>();
+        QueryCost queryCost = new QueryCost();
+        traverser.visitPostOrder(new QueryVisitorStub() {
+            @Override
+            public void visitField(
+                    final QueryVisitorFieldEnvironment environment) {
+                long cost = cost(environment,
+                        costs.getOrDefault(environment, 0L));
+                costs.merge(environment.getParentEnvironment(), cost,
+                        Long::sum);
+                queryCost.depth = Math.max(queryCost.depth,
+                        depth(environment));
+            }
+        });
+        queryCost.cost = costs.getOrDefault(null, 0L);
+        return queryCost;
+    }
+
+    private long cost(final QueryVisitorFieldEnvironment environment,
+                      final long childCost) {
+        String fieldName = environment.getField().getName();
+        if (fieldName.startsWith(INTROSPECTION_PREFIX)) {
+            return 0;
+        }
+        long cost = graphqlCostProperties.getWeight(
+                environment.getFieldsContainer().getName(), fieldName);
+        if (GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(
+                environment.getFieldDefinition().getType()))) {
+            return cost + childCost * listSize(environment);
+        }
+        return cost + childCost;
+    }
+
+    private long listSize(final QueryVisitorFieldEnvironment environment) {
+        QueryVisitorFieldEnvironment current = environment;
+        for (int i = 0; i < 2 && current != null; i++) {
+            Object size = current.getArguments().get("size");
+            if (size instanceof Number number && number.intValue() > 0) {
+                return number.intValue();
+            }
+            current = current.getParentEnvironment();
+        }
+        return graphqlCostProperties.getDefaultListSize();
+    }
+
+    private int depth(final QueryVisitorFieldEnvironment environment) {
+        int depth = 0;
+        QueryVisitorFieldEnvironment current = environment;
+        while (current != null) {
+            if (current.getField().getName()
+                    .startsWith(INTROSPECTION_PREFIX)) {
+                return 0;
+            }
+            depth++;
+            current = current.getParentEnvironment();
+        }
+        return depth;
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext()
+                .getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            return ANONYMOUS;
+        }
+        return authentication.getName();
+    }
+
+    private AbortExecutionException reject(final String reason,
+                                           final String message) {
+        Counter.builder("graphql.query.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new AbortExecutionException(message);
+    }
+
+    static final class QueryCost {
+
+        private long cost;
+        private int depth;
+
+        long getCost() {
+            return cost;
+        }
+
+        int getDepth() {
+            return depth;
+        }
+    }
+
+    private static final class Window {
+
+        private long start;
+        private long spent;
+
+        synchronized boolean tryCharge(final long cost,
+                                       final long now,
+                                       final long length,
+                                       final long budget) {
+            if (now - start >= length) {
+                start = now;
+                spent = 0;
+            }
+            if (spent + cost > budget) {
+                return false;
+            }
+            spent += cost;
+            return true;
+        }
+    }
+}
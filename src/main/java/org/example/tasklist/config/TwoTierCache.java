@@ -0,0 +1,173 @@
+package org.example.tasklist.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, byte[]> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Consumer<String> invalidation;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoTierCache(final String name,
+                        final Cache<String, byte[]> localCache,
+                        final org.springframework.cache.Cache remoteCache,
+                        final RedisSerializer<Object> valueSerializer,
+                        final Consumer<String> invalidation,
+                        final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.valueSerializer = valueSerializer;
+        this.invalidation = invalidation;
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.localMisses = counter(meterRegistry, "local", "miss");
+        this.remoteHits = counter(meterRegistry, "remote", "hit");
+        this.remoteMisses = counter(meterRegistry, "remote", "miss");
+        ratio(meterRegistry, "local", localHits, localMisses);
+        ratio(meterRegistry, "remote", remoteHits, remoteMisses);
+        Gauge.builder("cache.tier.size", localCache::estimatedSize)
+                .tag("cache", name)
+                .tag("tier", "local")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        String localKey = toLocalKey(key);
+        byte[] bytes = localCache.getIfPresent(localKey);
+        if (bytes != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(valueSerializer.deserialize(bytes));
+        }
+        localMisses.increment();
+        long readGeneration = generation.get();
+        ValueWrapper value = remoteCache.get(key);
+        if (value == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        byte[] remoteBytes = valueSerializer.serialize(value.get());
+        localCache.asMap().compute(localKey, (k, current) ->
+                generation.get() == readGeneration ? remoteBytes : current);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object result = value.get();
+        if (result != null && type != null && !type.isInstance(result)) {
+            throw new IllegalStateException("Cached value is not of type "
+                    + type.getName() + ": " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T result;
+        try {
+            result = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, result);
+        return result;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        remoteCache.put(key, value);
+        generation.incrementAndGet();
+        localCache.put(toLocalKey(key), valueSerializer.serialize(value));
+        invalidation.accept(toLocalKey(key));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        remoteCache.evict(key);
+        generation.incrementAndGet();
+        localCache.invalidate(toLocalKey(key));
+        invalidation.accept(toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        generation.incrementAndGet();
+        localCache.invalidateAll();
+        invalidation.accept(null);
+    }
+
+    void evictLocal(final String key) {
+        generation.incrementAndGet();
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    static String toLocalKey(final Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(final MeterRegistry meterRegistry,
+                            final String tier,
+                            final String result) {
+        return Counter.builder("cache.tier.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void ratio(final MeterRegistry meterRegistry,
+                       final String tier,
+                       final Counter hits,
+                       final Counter misses) {
+        Gauge.builder("cache.tier.hit.ratio",
+                        () -> hits.count() / Math.max(1.0,
+                                hits.count() + misses.count()))
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.tasklist.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.tasklist.service.props.CacheProperties;
+import org.example.tasklist.service.props.NearCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final String SEPARATOR = "|";
+    private static final String CLEAR = "C";
+    private static final String EVICT = "E";
+
+    private final CacheManager remoteCacheManager;
+    private final RedisSerializer<Object> valueSerializer;
+    private final NearCacheProperties nearCacheProperties;
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final Consumer<String> publisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches =
+            new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(final CacheManager remoteCacheManager,
+                               final RedisSerializer<Object> valueSerializer,
+                               final NearCacheProperties nearCacheProperties,
+                               final CacheProperties cacheProperties,
+                               final MeterRegistry meterRegistry,
+                               final Consumer<String> publisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.valueSerializer = valueSerializer;
+        this.nearCacheProperties = nearCacheProperties;
+        this.cacheProperties = cacheProperties;
+        this.meterRegistry = meterRegistry;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(cacheProperties.getMaxSize(cacheName))
+                        .expireAfterWrite(getLocalTtl(cacheName))
+                        .build(),
+                remoteCache,
+                valueSerializer,
+                key -> publish(cacheName, key),
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    public void onInvalidation(final String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 4);
+        if (parts.length < 3 || nodeId.equals(parts[1])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[0])) {
+            cache.evictLocal(null);
+        } else if (parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private Duration getLocalTtl(final String cacheName) {
+        Duration ttl = cacheProperties.getTtl(cacheName);
+        Duration localTtl = nearCacheProperties.getTtl();
+        if (localTtl.compareTo(ttl) < 0) {
+            return localTtl;
+        }
+        return ttl;
+    }
+
+    private void publish(final String cacheName, final String key) {
+        if (key == null) {
+            publisher.accept(String.join(SEPARATOR,
+                    CLEAR, nodeId, cacheName));
+        } else {
+            publisher.accept(String.join(SEPARATOR,
+                    EVICT, nodeId, cacheName, key));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.tasklist.domain.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(final String message) {
+        super(message);
+    }
+}
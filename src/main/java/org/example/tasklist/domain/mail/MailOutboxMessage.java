@@ -0,0 +1,33 @@
+package org.example.tasklist.domain.mail;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.example.tasklist.domain.MailType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "mail_outbox")
+@Data
+public class MailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    private MailType type;
+
+    private String recipient;
+    private String name;
+    private String params;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,11 @@
+package org.example.tasklist.domain.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RegistrationMailModel {
+
+    private final String name;
+}
@@ -0,0 +1,16 @@
+package org.example.tasklist.domain.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.tasklist.domain.task.Task;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReminderMailModel {
+
+    private final String name;
+    private final List<Task> tasks;
+    private final String leadTime;
+}
@@ -0,0 +1,14 @@
+package org.example.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedImage {
+
+    private String image;
+    private String url;
+}
@@ -0,0 +1,11 @@
+package org.example.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReminderShard {
+    private int index;
+    private int count;
+}
@@ -9,8 +9,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -21,8 +24,14 @@ import java.util.List;
 @Data
 public class Task implements Serializable {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq",
+            sequenceName = "tasks_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String title;
@@ -36,5 +45,9 @@ public class Task implements Serializable {
     @Column(name = "image")
     @CollectionTable(name = "tasks_images")
     @ElementCollection
+    @BatchSize(size = 100)
     private List<String> images;
+
+    @Transient
+    private List<String> thumbnails;
 }
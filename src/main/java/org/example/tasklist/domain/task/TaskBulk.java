@@ -0,0 +1,14 @@
+package org.example.tasklist.domain.task;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TaskBulk {
+
+    private List<Task> create = new ArrayList<>();
+    private List<Task> update = new ArrayList<>();
+    private List<Long> delete = new ArrayList<>();
+}
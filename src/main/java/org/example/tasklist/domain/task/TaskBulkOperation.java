@@ -0,0 +1,5 @@
+package org.example.tasklist.domain.task;
+
+public enum TaskBulkOperation {
+    CREATE, UPDATE, DELETE
+}
@@ -0,0 +1,17 @@
+package org.example.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResult {
+
+    private TaskBulkOperation operation;
+    private int index;
+    private Long id;
+    private boolean success;
+    private String message;
+}
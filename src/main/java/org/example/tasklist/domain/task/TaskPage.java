@@ -0,0 +1,13 @@
+package org.example.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskPage {
+    private List<Task> tasks;
+    private Long nextCursor;
+}
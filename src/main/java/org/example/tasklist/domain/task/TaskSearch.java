@@ -0,0 +1,18 @@
+package org.example.tasklist.domain.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearch {
+
+    private String query;
+    private Status status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
@@ -0,0 +1,24 @@
+package org.example.tasklist.repository;
+
+import org.example.tasklist.domain.mail.MailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MailOutboxRepository
+        extends JpaRepository<MailOutboxMessage, Long> {
+
+    @Query(value = """
+            SELECT * FROM mail_outbox
+            WHERE attempts < :maxAttempts
+            AND next_attempt_at <= now()
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MailOutboxMessage> findBatchForDispatch(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("limit") int limit);
+}
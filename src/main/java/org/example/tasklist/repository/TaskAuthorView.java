@@ -0,0 +1,12 @@
+package org.example.tasklist.repository;
+
+public interface TaskAuthorView {
+
+    Long getTaskId();
+
+    Long getId();
+
+    String getName();
+
+    String getUsername();
+}
@@ -0,0 +1,10 @@
+package org.example.tasklist.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskDueView {
+
+    Long getTaskId();
+
+    LocalDateTime getExpirationDate();
+}
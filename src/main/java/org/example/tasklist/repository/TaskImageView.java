@@ -0,0 +1,10 @@
+package org.example.tasklist.repository;
+
+public interface TaskImageView {
+
+    Long getTaskId();
+
+    String getImage();
+
+    Boolean getThumbnail();
+}
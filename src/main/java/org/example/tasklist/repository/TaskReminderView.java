@@ -0,0 +1,16 @@
+package org.example.tasklist.repository;
+
+public interface TaskReminderView {
+
+    Long getTaskId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Long getUserId();
+
+    String getName();
+
+    String getUsername();
+}
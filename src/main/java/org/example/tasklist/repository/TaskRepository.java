@@ -1,30 +1,156 @@
 package org.example.tasklist.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.tasklist.domain.task.Task;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>,
+        TaskSearchRepository {
+
+    String REMINDER_SCHEDULE_QUERY = """
+            SELECT t.id AS "taskId",
+            t.expiration_date AS "expirationDate"
+            FROM tasks t
+            JOIN users_tasks ut ON ut.task_id = t.id
+            WHERE t.expiration_date >= :start
+            AND t.expiration_date < :end
+            AND t.status <> 'DONE'
+            AND ut.user_id % :shards = :shard
+            AND NOT EXISTS (SELECT 1 FROM reminders_sent rs
+            WHERE rs.task_id = t.id
+            AND rs.expiration_date = t.expiration_date)
+            """;
+
     @Query(value = """
-            SELECT * FROM tasks t
+            SELECT t.id, t.title, t.description, t.status, t.expiration_date
+            FROM tasks t
             JOIN users_tasks ut ON ut.task_id = t.id
             WHERE ut.user_id = :userId
             """, nativeQuery = true)
     List<Task> findAllByUserId(@Param("userId") Long userId);
 
     @Query(value = """
-            SELECT * FROM tasks t
-            WHERE t.expiration_date is not null
-            AND t.expiration_date between :start and :end
+            SELECT t.id, t.title, t.description, t.status, t.expiration_date
+            FROM tasks t
+            JOIN users_tasks ut ON ut.task_id = t.id
+            WHERE ut.user_id = :userId
+            AND t.id > :afterId
+            ORDER BY t.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Task> findPageByUserId(@Param("userId") Long userId,
+                                @Param("afterId") Long afterId,
+                                @Param("limit") int limit);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT t.id, t.title, t.description, t.status, t.expiration_date
+            FROM tasks t
+            JOIN users_tasks ut ON ut.task_id = t.id
+            WHERE ut.user_id = :userId
+            ORDER BY t.id
+            """, nativeQuery = true)
+    Stream<Task> streamAllByUserId(@Param("userId") Long userId);
+
+    @Query(value = """
+            SELECT ti.task_id AS "taskId", ti.image AS "image",
+            false AS "thumbnail"
+            FROM tasks_images ti
+            WHERE ti.task_id IN (:taskIds)
+            UNION ALL
+            SELECT tt.task_id, tt.thumbnail, true
+            FROM tasks_thumbnails tt
+            WHERE tt.task_id IN (:taskIds)
+            """, nativeQuery = true)
+    List<TaskImageView> findImagesByTaskIds(
+            @Param("taskIds") Collection<Long> taskIds);
+
+    @Query(value = """
+            SELECT t.id, t.title, t.description, t.status, t.expiration_date
+            FROM tasks t
+            WHERE t.expiration_date between :start and :end
+            AND t.status <> 'DONE'
             """, nativeQuery = true)
     List<Task> findAllSoonTasks(@Param("start") Timestamp start,
                                 @Param("end") Timestamp end);
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = REMINDER_SCHEDULE_QUERY, nativeQuery = true)
+    Stream<TaskDueView> streamReminderSchedule(
+            @Param("start") Timestamp start,
+            @Param("end") Timestamp end,
+            @Param("shard") int shard,
+            @Param("shards") int shards);
+
+    @Query(value = """
+            SELECT t.id AS "taskId",
+            t.title AS "title",
+            t.description AS "description",
+            u.id AS "userId",
+            u.name AS "name",
+            u.username AS "username"
+            FROM tasks t
+            JOIN users_tasks ut ON ut.task_id = t.id
+            JOIN users u ON u.id = ut.user_id
+            WHERE t.id IN (:taskIds)
+            AND t.expiration_date between :start and :end
+            AND t.status <> 'DONE'
+            AND NOT EXISTS (SELECT 1 FROM reminders_sent rs
+            WHERE rs.task_id = t.id
+            AND rs.expiration_date = t.expiration_date)
+            ORDER BY ut.user_id
+            """, nativeQuery = true)
+    List<TaskReminderView> findDueReminders(
+            @Param("taskIds") Collection<Long> taskIds,
+            @Param("start") Timestamp start,
+            @Param("end") Timestamp end);
+
+    @Query(value = """
+            SELECT t.id AS "taskId",
+            t.title AS "title",
+            t.description AS "description",
+            u.id AS "userId",
+            u.name AS "name",
+            u.username AS "username"
+            FROM tasks t
+            JOIN users_tasks ut ON ut.task_id = t.id
+            JOIN users u ON u.id = ut.user_id
+            WHERE t.expiration_date between :start and :end
+            AND t.status <> 'DONE'
+            AND NOT EXISTS (SELECT 1 FROM reminders_sent rs
+            WHERE rs.task_id = t.id
+            AND rs.expiration_date = t.expiration_date)
+            ORDER BY t.expiration_date
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TaskReminderView> findOverdueReminders(
+            @Param("start") Timestamp start,
+            @Param("end") Timestamp end,
+            @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT ut.user_id FROM users_tasks ut
+            WHERE ut.task_id = :taskId
+            """, nativeQuery = true)
+    Optional<Long> findOwnerId(@Param("taskId") Long taskId);
+
     @Query(value = """
             INSERT INTO users_tasks (user_id, task_id)
             VALUES (:userId, :taskId)
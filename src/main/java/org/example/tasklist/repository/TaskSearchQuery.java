@@ -0,0 +1,58 @@
+package org.example.tasklist.repository;
+
+import lombok.Getter;
+import org.example.tasklist.domain.task.TaskSearch;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public final class TaskSearchQuery {
+
+    private final String sql;
+    private final Map<String, Object> parameters;
+
+    private TaskSearchQuery(final String sql,
+                            final Map<String, Object> parameters) {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    public static TaskSearchQuery of(final Long userId,
+                                     final TaskSearch search,
+                                     final long afterId,
+                                     final int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT t.id, t.title, t.description, t.status,
+                t.expiration_date
+                FROM users_tasks ut
+                JOIN tasks t ON t.id = ut.task_id
+                WHERE ut.user_id = :userId
+                AND ut.task_id > :afterId
+                """);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", userId);
+        parameters.put("afterId", afterId);
+        if (search.getQuery() != null && !search.getQuery().isBlank()) {
+            sql.append("AND t.search_vector @@ ")
+                    .append("websearch_to_tsquery('simple', :query)\n");
+            parameters.put("query", search.getQuery());
+        }
+        if (search.getStatus() != null) {
+            sql.append("AND t.status = :status\n");
+            parameters.put("status", search.getStatus().name());
+        }
+        if (search.getFrom() != null) {
+            sql.append("AND t.expiration_date >= :from\n");
+            parameters.put("from", Timestamp.valueOf(search.getFrom()));
+        }
+        if (search.getTo() != null) {
+            sql.append("AND t.expiration_date < :to\n");
+            parameters.put("to", Timestamp.valueOf(search.getTo()));
+        }
+        sql.append("ORDER BY ut.task_id\nLIMIT :limit");
+        parameters.put("limit", limit);
+        return new TaskSearchQuery(sql.toString(), parameters);
+    }
+}
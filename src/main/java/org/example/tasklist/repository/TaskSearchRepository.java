@@ -0,0 +1,14 @@
+package org.example.tasklist.repository;
+
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskSearch;
+
+import java.util.List;
+
+public interface TaskSearchRepository {
+
+    List<Task> search(Long userId,
+                      TaskSearch search,
+                      long afterId,
+                      int limit);
+}
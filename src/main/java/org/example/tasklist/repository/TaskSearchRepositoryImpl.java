@@ -0,0 +1,29 @@
+package org.example.tasklist.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskSearch;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Task> search(final Long userId,
+                             final TaskSearch search,
+                             final long afterId,
+                             final int limit) {
+        TaskSearchQuery searchQuery = TaskSearchQuery.of(userId, search,
+                afterId, limit);
+        Query query = entityManager.createNativeQuery(searchQuery.getSql(),
+                Task.class);
+        searchQuery.getParameters().forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
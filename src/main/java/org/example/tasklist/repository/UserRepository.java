@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -22,14 +24,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
             WHERE ut.task_id = :taskId
             """, nativeQuery = true)
     Optional<User> findTaskAuthor(@Param("taskId") Long taskId);
+
+    @Query(value = """
+            SELECT ut.task_id AS "taskId",
+            u.id AS "id",
+            u.name AS "name",
+            u.username AS "username"
+            FROM users_tasks ut
+            JOIN users u ON ut.user_id = u.id
+            WHERE ut.task_id IN (:taskIds)
+            """, nativeQuery = true)
+    List<TaskAuthorView> findTaskAuthors(
+            @Param("taskIds") Collection<Long> taskIds);
+
     @Query(value = """
-             SELECT exists(
-                           SELECT 1
-                           FROM users_tasks
-                           WHERE user_id = :userId
-                             AND task_id = :taskId)
+            SELECT ut.task_id FROM users_tasks ut
+            WHERE ut.user_id = :userId
             """, nativeQuery = true)
-    boolean isTaskOwner(@Param("userId") Long userId,
-                        @Param("taskId") Long taskId);
+    List<Long> findTaskIds(@Param("userId") Long userId);
 
 }
@@ -1,9 +1,16 @@
 package org.example.tasklist.service;
 
+import org.example.tasklist.domain.task.PresignedImage;
 import org.example.tasklist.domain.task.TaskImage;
 
 
 public interface ImageService {
 
     String upload(TaskImage image);
+
+    PresignedImage createUploadUrl(String prefix, String fileName);
+
+    PresignedImage createDownloadUrl(String image);
+
+    boolean exists(String image);
 }
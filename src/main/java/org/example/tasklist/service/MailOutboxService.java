@@ -0,0 +1,13 @@
+package org.example.tasklist.service;
+
+import org.example.tasklist.domain.MailType;
+import org.example.tasklist.domain.user.User;
+
+import java.util.Properties;
+
+public interface MailOutboxService {
+
+    void enqueue(User user, MailType type, Properties params);
+
+    void dispatch();
+}
@@ -1,10 +1,17 @@
 package org.example.tasklist.service;
 
+import jakarta.mail.internet.MimeMessage;
 import org.example.tasklist.domain.MailType;
+import org.example.tasklist.domain.task.Task;
 import org.example.tasklist.domain.user.User;
 
+import java.util.List;
 import java.util.Properties;
 
 public interface MailService {
     void sendEmail(User user, MailType type, Properties params);
+
+    void sendReminderEmail(User user, List<Task> tasks);
+
+    MimeMessage createEmail(User user, MailType type, Properties params);
 }
@@ -1,5 +1,9 @@
 package org.example.tasklist.service;
 
 public interface Reminder {
+    void loadReminders();
+
     void remindForTask();
+
+    void rescanReminders();
 }
@@ -0,0 +1,19 @@
+package org.example.tasklist.service;
+
+import org.example.tasklist.domain.task.ReminderShard;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ReminderCoordinator {
+
+    void heartbeat();
+
+    ReminderShard getShard();
+
+    Set<Long> claim(Collection<Long> taskIds);
+
+    void release(Collection<Long> taskIds);
+
+    void purgeSent();
+}
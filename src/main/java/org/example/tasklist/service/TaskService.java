@@ -1,22 +1,68 @@
 package org.example.tasklist.service;
 
+import org.example.tasklist.domain.task.PresignedImage;
+import org.example.tasklist.domain.task.ReminderShard;
 import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskBulk;
+import org.example.tasklist.domain.task.TaskBulkResult;
 import org.example.tasklist.domain.task.TaskImage;
+import org.example.tasklist.domain.task.TaskPage;
+import org.example.tasklist.domain.task.TaskSearch;
+import org.example.tasklist.repository.TaskDueView;
+import org.example.tasklist.repository.TaskReminderView;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface TaskService {
     Task getById(Long id);
 
     List<Task> getAllByUserId(Long id);
+
+    List<Task> getAllByIds(Collection<Long> ids);
+
+    Map<Long, List<String>> getImagesByTaskIds(Collection<Long> ids);
+
+    Map<Long, List<String>> getThumbnailsByTaskIds(Collection<Long> ids);
+
+    TaskPage getPageByUserId(Long id, Long after, Integer size);
+
+    TaskPage search(Long userId, TaskSearch search, Long after, Integer size);
+
+    void streamAllByUserId(Long id, Consumer<Task> consumer);
+
     List<Task> getAllSoonTasks(Duration duration);
 
+    void streamReminderSchedule(LocalDateTime from,
+                                LocalDateTime to,
+                                ReminderShard shard,
+                                Consumer<TaskDueView> consumer);
+
+    List<TaskReminderView> getDueReminders(Collection<Long> taskIds,
+                                           LocalDateTime from,
+                                           LocalDateTime to);
+
+    List<TaskReminderView> getOverdueReminders(LocalDateTime from,
+                                               LocalDateTime to,
+                                               int limit);
+
     Task update(Task task);
 
     Task create(Task task, Long userId);
 
     void delete(Long id);
 
+    List<TaskBulkResult> bulk(TaskBulk bulk, Long userId);
+
     void uploadImage(Long id, TaskImage image);
+
+    PresignedImage createImageUploadUrl(Long id, String fileName);
+
+    void confirmImage(Long id, String image);
+
+    PresignedImage getImageUrl(Long id, String image);
 }
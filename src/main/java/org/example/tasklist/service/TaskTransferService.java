@@ -0,0 +1,13 @@
+package org.example.tasklist.service;
+
+import org.example.tasklist.domain.task.TaskFormat;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface TaskTransferService {
+
+    long exportTasks(Long userId, TaskFormat format, OutputStream output);
+
+    long importTasks(Long userId, TaskFormat format, InputStream input);
+}
@@ -0,0 +1,20 @@
+package org.example.tasklist.service;
+
+public interface ThumbnailService {
+
+    String PREFIX = "thumbnails/";
+
+    void generate(Long taskId, String image);
+
+    static String nameOf(final String image, final String format) {
+        int extension = image.lastIndexOf('.');
+        int directory = image.lastIndexOf('/');
+        if (extension <= directory) {
+            return PREFIX + image + "." + format;
+        }
+        if (image.substring(extension + 1).equalsIgnoreCase(format)) {
+            return PREFIX + image;
+        }
+        return PREFIX + image.substring(0, extension) + "." + format;
+    }
+}
@@ -2,6 +2,9 @@ package org.example.tasklist.service;
 
 import org.example.tasklist.domain.user.User;
 
+import java.util.Collection;
+import java.util.Map;
+
 
 public interface UserService {
     User getById(Long id);
@@ -10,6 +13,8 @@ public interface UserService {
 
     User update(User user);
 
+    void updatePassword(Long id, String encodedPassword);
+
     User create(User user);
 
     boolean isTaskOwner(Long userId, Long taskId);
@@ -17,4 +22,6 @@ public interface UserService {
     void delete(Long id);
 
     User getTaskByAuthor(Long taskId);
+
+    Map<Long, User> getTaskAuthors(Collection<Long> taskIds);
 }
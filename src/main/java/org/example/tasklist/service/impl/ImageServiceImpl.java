@@ -1,57 +1,173 @@
 package org.example.tasklist.service.impl;
 
 import io.minio.BucketExistsArgs;
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.Part;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.config.MinioMultipartClient;
 import org.example.tasklist.domain.exception.ImageUploadException;
+import org.example.tasklist.domain.task.PresignedImage;
 import org.example.tasklist.domain.task.TaskImage;
 import org.example.tasklist.service.ImageService;
 import org.example.tasklist.service.props.MinioProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageServiceImpl implements ImageService {
 
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
     private final MinioClient minioClient;
+    private final MinioMultipartClient multipartClient;
     private final MinioProperties minioProperties;
 
-    @Override
-    public String upload(final TaskImage image) {
+    private volatile boolean bucketCreated;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int threads = minioProperties.getUploadThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                new CustomizableThreadFactory("image-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
         try {
             createBucket();
         } catch (Exception e) {
-            throw new ImageUploadException(
-                    "Image upload failed: " + e.getMessage());
+            log.warn("Bucket {} is not available, will retry on upload",
+                    minioProperties.getBucket(), e);
         }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String upload(final TaskImage image) {
+        ensureBucket();
         MultipartFile file = image.getFile();
         if (file.isEmpty() || file.getOriginalFilename() == null) {
             throw new ImageUploadException("Image must have name.");
         }
 
-        String fileName = generateFileName(file);
-        InputStream inputStream;
+        String fileName = generateFileName(file.getOriginalFilename());
 
         try {
-            inputStream = file.getInputStream();
+            if (file.getSize() >= minioProperties.getParallelThreshold()
+                    .toBytes()) {
+                saveImageInParts(file, fileName);
+            } else {
+                saveImage(file, fileName);
+            }
         } catch (Exception e) {
             throw new ImageUploadException(
                     "Image upload failed: " + e.getMessage());
         }
-
-        saveImage(inputStream, fileName);
         return fileName;
     }
 
+    @Override
+    public PresignedImage createUploadUrl(final String prefix,
+                                          final String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            throw new ImageUploadException("Image must have name.");
+        }
+        ensureBucket();
+        String image = prefix + generateFileName(fileName);
+        return new PresignedImage(image, getPresignedUrl(Method.PUT, image));
+    }
+
+    @Override
+    public PresignedImage createDownloadUrl(final String image) {
+        return new PresignedImage(image, getPresignedUrl(Method.GET, image));
+    }
+
+    @Override
+    public boolean exists(final String image) {
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(minioProperties.getBucket())
+                    .object(image)
+                    .build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw new ImageUploadException(
+                    "Image check failed: " + e.getMessage());
+        } catch (Exception e) {
+            throw new ImageUploadException(
+                    "Image check failed: " + e.getMessage());
+        }
+    }
+
+    private String getPresignedUrl(final Method method, final String image) {
+        try {
+            return minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(method)
+                            .bucket(minioProperties.getBucket())
+                            .object(image)
+                            .expiry((int) minioProperties
+                                            .getPresignedUrlExpiry()
+                                            .toSeconds(),
+                                    TimeUnit.SECONDS)
+                            .build());
+        } catch (Exception e) {
+            throw new ImageUploadException(
+                    "Image url failed: " + e.getMessage());
+        }
+    }
+
+    private void ensureBucket() {
+        if (bucketCreated) {
+            return;
+        }
+        try {
+            createBucket();
+        } catch (Exception e) {
+            throw new ImageUploadException(
+                    "Image upload failed: " + e.getMessage());
+        }
+    }
+
     @SneakyThrows
-    private void createBucket() {
+    private synchronized void createBucket() {
+        if (bucketCreated) {
+            return;
+        }
         boolean found = minioClient.bucketExists(BucketExistsArgs.builder()
                 .bucket(minioProperties.getBucket())
                 .build());
@@ -60,25 +176,97 @@ public class ImageServiceImpl implements ImageService {
                     .bucket(minioProperties.getBucket())
                     .build());
         }
+        bucketCreated = true;
     }
 
-    private String generateFileName(final MultipartFile file) {
-        String extension = getExtension(file);
+    private String generateFileName(final String originalFilename) {
+        String extension = getExtension(originalFilename);
         return UUID.randomUUID() + "." + extension;
     }
 
-    private String getExtension(final MultipartFile file) {
-        return file.getOriginalFilename().
-                substring(file.getOriginalFilename().lastIndexOf(".") + 1);
+    private String getExtension(final String originalFilename) {
+        return originalFilename.
+                substring(originalFilename.lastIndexOf(".") + 1);
+    }
+
+    private long getPartSize() {
+        return Math.max(minioProperties.getPartSize().toBytes(),
+                MIN_PART_SIZE);
     }
 
     @SneakyThrows
-    private void saveImage(final InputStream inputStream,
+    private void saveImage(final MultipartFile file,
                            final String fileName) {
-        minioClient.putObject(PutObjectArgs.builder()
-                .stream(inputStream, inputStream.available(), -1)
-                .bucket(minioProperties.getBucket())
-                .object(fileName)
-                .build());
+        try (InputStream inputStream = file.getInputStream()) {
+            minioClient.putObject(PutObjectArgs.builder()
+                    .stream(inputStream, file.getSize(), getPartSize())
+                    .bucket(minioProperties.getBucket())
+                    .object(fileName)
+                    .build());
+        }
+    }
+
+    @SneakyThrows
+    private void saveImageInParts(final MultipartFile file,
+                                  final String fileName) {
+        long size = file.getSize();
+        long partSize = getPartSize();
+        int partCount = (int) ((size + partSize - 1) / partSize);
+        String uploadId = multipartClient.createUpload(
+                minioProperties.getBucket(), fileName);
+        List<CompletableFuture<Part>> futures = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            int partNumber = i + 1;
+            long offset = i * partSize;
+            long length = Math.min(partSize, size - offset);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> savePart(file, fileName, uploadId, partNumber,
+                            offset, length),
+                    executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .join();
+            multipartClient.completeUpload(minioProperties.getBucket(),
+                    fileName,
+                    uploadId,
+                    futures.stream()
+                            .map(CompletableFuture::join)
+                            .toArray(Part[]::new));
+        } catch (CompletionException e) {
+            abortUpload(fileName, uploadId);
+            throw e.getCause();
+        } catch (Exception e) {
+            abortUpload(fileName, uploadId);
+            throw e;
+        }
+    }
+
+    @SneakyThrows
+    private Part savePart(final MultipartFile file,
+                          final String fileName,
+                          final String uploadId,
+                          final int partNumber,
+                          final long offset,
+                          final long length) {
+        try (InputStream inputStream = file.getInputStream()) {
+            inputStream.skipNBytes(offset);
+            return multipartClient.uploadPart(minioProperties.getBucket(),
+                    fileName,
+                    uploadId,
+                    partNumber,
+                    inputStream,
+                    length);
+        }
+    }
+
+    private void abortUpload(final String fileName, final String uploadId) {
+        try {
+            multipartClient.abortUpload(minioProperties.getBucket(),
+                    fileName, uploadId);
+        } catch (Exception e) {
+            log.warn("Failed to abort upload {} of image {}",
+                    uploadId, fileName, e);
+        }
     }
 }
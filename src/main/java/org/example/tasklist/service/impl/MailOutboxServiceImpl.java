@@ -0,0 +1,166 @@
+package org.example.tasklist.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.domain.MailType;
+import org.example.tasklist.domain.mail.MailOutboxMessage;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.repository.MailOutboxRepository;
+import org.example.tasklist.service.MailOutboxService;
+import org.example.tasklist.service.MailService;
+import org.example.tasklist.service.props.MailOutboxProperties;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailService mailService;
+    private final JavaMailSender mailSender;
+    private final MailOutboxProperties mailOutboxProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.droppedCounter = Counter.builder("mail.outbox.dropped")
+                .description("Mails dropped after the last attempt")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(final User user,
+                        final MailType type,
+                        final Properties params) {
+        LocalDateTime now = LocalDateTime.now();
+        MailOutboxMessage message = new MailOutboxMessage();
+        message.setType(type);
+        message.setRecipient(user.getUsername());
+        message.setName(user.getName());
+        message.setParams(writeParams(params));
+        message.setCreatedAt(now);
+        message.setNextAttemptAt(now);
+        mailOutboxRepository.save(message);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:5s}")
+    public void dispatch() {
+        List<MailOutboxMessage> messages = mailOutboxRepository
+                .findBatchForDispatch(mailOutboxProperties.getMaxAttempts(),
+                        mailOutboxProperties.getBatchSize());
+        if (messages.isEmpty()) {
+            return;
+        }
+        Map<MimeMessage, MailOutboxMessage> mimeMessages
+                = new LinkedHashMap<>();
+        List<MailOutboxMessage> finished = new ArrayList<>();
+        for (MailOutboxMessage message : messages) {
+            try {
+                mimeMessages.put(mailService.createEmail(toUser(message),
+                        message.getType(),
+                        readParams(message.getParams())), message);
+            } catch (Exception e) {
+                log.warn("Mail {} could not be rendered", message.getId(), e);
+                retryLater(message, finished);
+            }
+        }
+        Collection<?> failed = send(mimeMessages.keySet());
+        mimeMessages.forEach((mimeMessage, message) -> {
+            if (failed.contains(mimeMessage)) {
+                retryLater(message, finished);
+            } else {
+                finished.add(message);
+            }
+        });
+        mailOutboxRepository.deleteAllInBatch(finished);
+    }
+
+    private Collection<?> send(final Collection<MimeMessage> mimeMessages) {
+        if (mimeMessages.isEmpty()) {
+            return mimeMessages;
+        }
+        try {
+            mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            return List.of();
+        } catch (MailSendException e) {
+            log.warn("{} of {} mails were not sent",
+                    e.getFailedMessages().size(), mimeMessages.size(), e);
+            return e.getFailedMessages().keySet();
+        } catch (MailException e) {
+            log.warn("Mail batch was not sent", e);
+            return mimeMessages;
+        }
+    }
+
+    private void retryLater(final MailOutboxMessage message,
+                            final List<MailOutboxMessage> finished) {
+        message.setAttempts(message.getAttempts() + 1);
+        if (message.getAttempts() >= mailOutboxProperties.getMaxAttempts()) {
+            log.error("Mail {} of type {} was dropped after {} attempts",
+                    message.getId(), message.getType(), message.getAttempts());
+            droppedCounter.increment();
+            finished.add(message);
+            return;
+        }
+        message.setNextAttemptAt(LocalDateTime.now().plus(
+                mailOutboxProperties.getRetryBackoff()
+                        .multipliedBy(message.getAttempts())));
+    }
+
+    private User toUser(final MailOutboxMessage message) {
+        User user = new User();
+        user.setName(message.getName());
+        user.setUsername(message.getRecipient());
+        return user;
+    }
+
+    private String writeParams(final Properties params) {
+        try {
+            StringWriter writer = new StringWriter();
+            params.store(writer, null);
+            return writer.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Properties readParams(final String params) {
+        Properties properties = new Properties();
+        if (params == null) {
+            return properties;
+        }
+        try {
+            properties.load(new StringReader(params));
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,96 +1,147 @@
 package org.example.tasklist.service.impl;
 
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.example.tasklist.domain.MailType;
+import org.example.tasklist.domain.mail.RegistrationMailModel;
+import org.example.tasklist.domain.mail.ReminderMailModel;
+import org.example.tasklist.domain.task.Task;
 import org.example.tasklist.domain.user.User;
 import org.example.tasklist.service.MailService;
-import freemarker.template.Configuration;
+import org.example.tasklist.service.props.ReminderProperties;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.io.StringWriter;
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
 @Service
 @RequiredArgsConstructor
 public class MailServiceImpl implements MailService {
+
+    private static final Map<MailType, String> TEMPLATE_NAMES = new EnumMap<>(
+            Map.of(MailType.REGISTRATION, "register.ftlh",
+                    MailType.REMINDER, "reminder.ftlh"));
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+    private static final long MINUTES_PER_HOUR = 60;
+    private static final ThreadLocal<StringWriter> BUFFERS =
+            ThreadLocal.withInitial(() -> new StringWriter(BUFFER_SIZE));
+
     private final Configuration configuration;
     private final JavaMailSender mailSender;
+    private final ReminderProperties reminderProperties;
+    private Map<MailType, Template> templates;
+
+    @PostConstruct
+    @SneakyThrows
+    public void init() {
+        Map<MailType, Template> loaded = new EnumMap<>(MailType.class);
+        for (MailType type : MailType.values()) {
+            loaded.put(type,
+                    configuration.getTemplate(TEMPLATE_NAMES.get(type)));
+        }
+        this.templates = Collections.unmodifiableMap(loaded);
+    }
 
     @Override
     public void sendEmail(final User user,
                           final MailType type,
                           final Properties params) {
-        switch (type) {
-            case REGISTRATION -> sendRegistrationEmail(user, params);
-            case REMINDER -> sendReminderEmail(user, params);
-            default -> {
-            }
-        }
+        mailSender.send(createEmail(user, type, params));
     }
 
-    @SneakyThrows
-    private void sendRegistrationEmail(
+    @Override
+    public MimeMessage createEmail(final User user,
+                                   final MailType type,
+                                   final Properties params) {
+        return switch (type) {
+            case REGISTRATION -> createRegistrationEmail(user);
+            case REMINDER -> createReminderEmail(user,
+                    List.of(toTask(params)));
+        };
+    }
+
+    @Override
+    public void sendReminderEmail(
             final User user,
-            final Properties params
+            final List<Task> tasks
     ) {
+        mailSender.send(createReminderEmail(user, tasks));
+    }
+
+    @SneakyThrows
+    private MimeMessage createRegistrationEmail(final User user) {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mimeMessage,
                 false,
                 "UTF-8");
         helper.setSubject("Thank you for registration, " + user.getName());
         helper.setTo(user.getUsername());
-        String emailContent = getRegistrationEmailContent(user, params);
+        String emailContent = render(MailType.REGISTRATION,
+                new RegistrationMailModel(user.getName()));
         helper.setText(emailContent, true);
-        mailSender.send(mimeMessage);
+        return mimeMessage;
     }
 
     @SneakyThrows
-    private void sendReminderEmail(
+    private MimeMessage createReminderEmail(
             final User user,
-            final Properties params
+            final List<Task> tasks
     ) {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mimeMessage,
                 false,
                 "UTF-8");
-        helper.setSubject("You have task to do in 1 hour");
+        String leadTime = describe(reminderProperties.getLeadTime());
+        if (tasks.size() > 1) {
+            helper.setSubject("You have " + tasks.size()
+                    + " tasks to do in " + leadTime);
+        } else {
+            helper.setSubject("You have task to do in " + leadTime);
+        }
         helper.setTo(user.getUsername());
-        String emailContent = getReminderEmailContent(user, params);
+        String emailContent = render(MailType.REMINDER,
+                new ReminderMailModel(user.getName(), tasks, leadTime));
         helper.setText(emailContent, true);
-        mailSender.send(mimeMessage);
+        return mimeMessage;
     }
 
     @SneakyThrows
-    private String getRegistrationEmailContent(
-            final User user,
-            final Properties properties
-    ) {
-        StringWriter writer = new StringWriter();
-        Map<String, Object> model = new HashMap<>();
-        model.put("name", user.getName());
-        configuration.getTemplate("register.ftlh")
-                .process(model, writer);
-        return writer.getBuffer().toString();
+    private String render(final MailType type, final Object model) {
+        StringWriter writer = BUFFERS.get();
+        writer.getBuffer().setLength(0);
+        templates.get(type).process(model, writer);
+        String content = writer.toString();
+        if (writer.getBuffer().capacity() > MAX_BUFFER_SIZE) {
+            BUFFERS.remove();
+        }
+        return content;
     }
 
-    @SneakyThrows
-    private String getReminderEmailContent(
-            final User user,
-            final Properties properties
-    ) {
-        StringWriter writer = new StringWriter();
-        Map<String, Object> model = new HashMap<>();
-        model.put("name", user.getName());
-        model.put("title", properties.getProperty("task.title"));
-        model.put("description", properties.getProperty("task.description"));
-        configuration.getTemplate("reminder.ftlh")
-                .process(model, writer);
-        return writer.getBuffer().toString();
+    private String describe(final Duration leadTime) {
+        long minutes = Math.max(1, leadTime.toMinutes());
+        if (minutes % MINUTES_PER_HOUR == 0) {
+            long hours = minutes / MINUTES_PER_HOUR;
+            return "about " + hours + (hours == 1 ? " hour" : " hours");
+        }
+        return "about " + minutes + (minutes == 1 ? " minute" : " minutes");
+    }
+
+    private Task toTask(final Properties properties) {
+        Task task = new Task();
+        task.setTitle(properties.getProperty("task.title"));
+        task.setDescription(properties.getProperty("task.description"));
+        return task;
     }
 }
@@ -0,0 +1,113 @@
+package org.example.tasklist.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.domain.task.ReminderShard;
+import org.example.tasklist.service.ReminderCoordinator;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderCoordinatorImpl implements ReminderCoordinator {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReminderProperties reminderProperties;
+
+    @Scheduled(fixedDelayString = "${reminder.heartbeat-interval:10s}")
+    @Override
+    public void heartbeat() {
+        jdbcTemplate.update("""
+                INSERT INTO reminder_nodes (node_id, heartbeat_at)
+                VALUES (:nodeId, now())
+                ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = now()
+                """, Map.of("nodeId", reminderProperties.getNodeId()));
+        jdbcTemplate.update("""
+                DELETE FROM reminder_nodes
+                WHERE heartbeat_at < now() - :ttl * interval '1 second'
+                """, Map.of("ttl", reminderProperties.getNodeTtl()
+                .toSeconds()));
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            jdbcTemplate.update("""
+                    DELETE FROM reminder_nodes WHERE node_id = :nodeId
+                    """, Map.of("nodeId", reminderProperties.getNodeId()));
+        } catch (DataAccessException e) {
+            log.warn("Reminder node {} could not leave, it expires in {}",
+                    reminderProperties.getNodeId(),
+                    reminderProperties.getNodeTtl(), e);
+        }
+    }
+
+    @Override
+    public ReminderShard getShard() {
+        heartbeat();
+        List<String> nodes = new ArrayList<>(jdbcTemplate.queryForList("""
+                SELECT node_id FROM reminder_nodes
+                WHERE heartbeat_at >= now() - :ttl * interval '1 second'
+                """, Map.of("ttl", reminderProperties.getNodeTtl()
+                .toSeconds()), String.class));
+        String nodeId = reminderProperties.getNodeId();
+        if (!nodes.contains(nodeId)) {
+            log.warn("Reminder node {} is missing from the membership",
+                    nodeId);
+            nodes.add(nodeId);
+        }
+        Collections.sort(nodes);
+        return new ReminderShard(nodes.indexOf(nodeId), nodes.size());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Long> claim(final Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("""
+                INSERT INTO reminders_sent (task_id, expiration_date)
+                SELECT t.id, t.expiration_date FROM tasks t
+                WHERE t.id IN (:taskIds)
+                AND t.expiration_date is not null
+                ON CONFLICT DO NOTHING
+                RETURNING task_id
+                """, Map.of("taskIds", taskIds), Long.class));
+    }
+
+    @Override
+    public void release(final Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                DELETE FROM reminders_sent WHERE task_id IN (:taskIds)
+                """, Map.of("taskIds", taskIds));
+    }
+
+    @Override
+    public void purgeSent() {
+        jdbcTemplate.update("""
+                DELETE FROM reminders_sent
+                WHERE sent_at < now() - :retention * interval '1 second'
+                """, Map.of("retention", reminderProperties
+                .getSentRetention()
+                .toSeconds()));
+    }
+}
@@ -1,39 +1,228 @@
 package org.example.tasklist.service.impl;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.example.tasklist.domain.MailType;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.domain.task.ReminderShard;
 import org.example.tasklist.domain.task.Task;
 import org.example.tasklist.domain.user.User;
+import org.example.tasklist.repository.TaskReminderView;
 import org.example.tasklist.service.MailService;
 import org.example.tasklist.service.Reminder;
+import org.example.tasklist.service.ReminderCoordinator;
 import org.example.tasklist.service.TaskService;
-import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.props.ReminderProperties;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReminderImpl implements Reminder {
 
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final TaskService taskService;
-    private final UserService userService;
+    private final ReminderCoordinator reminderCoordinator;
+    private final ReminderSchedule reminderSchedule;
     private final MailService mailService;
-    private final Duration duration = Duration.ofHours(1);
+    private final ReminderProperties reminderProperties;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Timer runTimer;
+    private Timer loadTimer;
+    private Counter sentCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = reminderProperties.getPoolSize();
+        int queueCapacity = reminderProperties.getQueueCapacity();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("reminder-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.runTimer = Timer.builder("reminder.run")
+                .description("Duration of a reminder run")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("reminder.load")
+                .description("Duration of a reminder schedule load")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("reminder.mails")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("reminder.mails")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS)) {
+                log.warn("Reminder sends did not finish before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-    @Scheduled(cron = "0 0 * * * *")
+    @Scheduled(fixedDelayString = "${reminder.load-interval:1m}")
+    @Override
+    public void loadReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        ReminderShard shard = reminderCoordinator.getShard();
+        if (reminderSchedule.reset(shard, now)) {
+            log.info("Reminder node is shard {} of {}, reloading",
+                    shard.getIndex(), shard.getCount());
+        }
+        LocalDateTime from = reminderSchedule.getLoadedUntil();
+        LocalDateTime to = now.plus(reminderProperties.getHorizon());
+        if (to.isAfter(from)) {
+            reminderSchedule.setLoadedUntil(to);
+            loadTimer.record(() -> taskService.streamReminderSchedule(from,
+                    to,
+                    shard,
+                    task -> reminderSchedule.load(task.getTaskId(),
+                            task.getExpirationDate())));
+        }
+        reminderCoordinator.purgeSent();
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.tick:1s}")
     @Override
     public void remindForTask() {
-        List<Task> tasks = taskService.getAllSoonTasks(duration);
-        tasks.forEach(task -> {
-            User user = userService.getTaskByAuthor(task.getId());
-            Properties properties = new Properties();
-            properties.setProperty("task.title", task.getTitle());
-            properties.setProperty("task.description", task.getDescription());
-            mailService.sendEmail(user, MailType.REMINDER, properties);
-        });
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> taskIds = reminderSchedule.advance(now);
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime until = now.plus(reminderProperties.getLeadTime())
+                .plus(reminderProperties.getSpread())
+                .plus(reminderProperties.getTick());
+        runTimer.record(() -> remind(taskService.getDueReminders(taskIds,
+                now,
+                until)));
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.rescan-interval:1m}")
+    @Override
+    public void rescanReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(reminderProperties.getLeadTime())
+                .minus(reminderProperties.getRescanDelay());
+        if (!until.isAfter(now)) {
+            return;
+        }
+        List<TaskReminderView> reminders = taskService.getOverdueReminders(
+                now,
+                until,
+                reminderProperties.getRescanBatchSize());
+        if (!reminders.isEmpty()) {
+            log.info("Found {} overdue reminders, sending", reminders.size());
+            remind(reminders);
+        }
+    }
+
+    void remind(final Collection<TaskReminderView> reminders) {
+        Set<Long> claimed = reminderCoordinator.claim(reminders.stream()
+                .map(TaskReminderView::getTaskId)
+                .toList());
+        Map<Long, List<TaskReminderView>> remindersByUser = reminders
+                .stream()
+                .filter(reminder -> claimed.contains(reminder.getTaskId()))
+                .collect(Collectors.groupingBy(TaskReminderView::getUserId,
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+        for (List<TaskReminderView> userReminders
+                : remindersByUser.values()) {
+            try {
+                executor.execute(() -> send(userReminders));
+            } catch (RejectedExecutionException e) {
+                log.warn("Reminder queue is full, releasing {} reminders",
+                        userReminders.size());
+                reminderCoordinator.release(userReminders.stream()
+                        .map(TaskReminderView::getTaskId)
+                        .toList());
+            }
+        }
+    }
+
+    private void send(final List<TaskReminderView> reminders) {
+        User user = toUser(reminders.get(0));
+        List<Task> tasks = reminders.stream()
+                .map(this::toTask)
+                .toList();
+        int maxAttempts = reminderProperties.getMaxAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                mailService.sendReminderEmail(user, tasks);
+                sentCounter.increment();
+                return;
+            } catch (Exception e) {
+                log.warn("Reminder for user {} failed, attempt {} of {}",
+                        user.getId(), attempt, maxAttempts, e);
+            }
+            if (attempt < maxAttempts && !backoff(attempt)) {
+                break;
+            }
+        }
+        failedCounter.increment();
+        reminderCoordinator.release(tasks.stream()
+                .map(Task::getId)
+                .toList());
+    }
+
+    private boolean backoff(final int attempt) {
+        try {
+            Thread.sleep(reminderProperties.getRetryBackoff()
+                    .multipliedBy(attempt)
+                    .toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private User toUser(final TaskReminderView reminder) {
+        User user = new User();
+        user.setId(reminder.getUserId());
+        user.setName(reminder.getName());
+        user.setUsername(reminder.getUsername());
+        return user;
+    }
+
+    private Task toTask(final TaskReminderView reminder) {
+        Task task = new Task();
+        task.setId(reminder.getTaskId());
+        task.setTitle(reminder.getTitle());
+        task.setDescription(reminder.getDescription());
+        return task;
     }
 }
@@ -0,0 +1,174 @@
+package org.example.tasklist.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.config.TransactionCallbacks;
+import org.example.tasklist.domain.task.ReminderShard;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ReminderSchedule {
+
+    private static final String SEPARATOR = "|";
+    private static final String RELOAD = "reload";
+    private static final long SPREAD_MULTIPLIER = 2654435761L;
+
+    private final ReminderProperties reminderProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private TimingWheel<Long> wheel;
+    private ReminderShard shard;
+    private LocalDateTime loadedUntil;
+
+    @PostConstruct
+    public void init() {
+        reset(null, LocalDateTime.now());
+        Gauge.builder("reminder.schedule.size", this, ReminderSchedule::size)
+                .description("Reminders waiting in the timing wheel")
+                .register(meterRegistry);
+        listenerContainer.addMessageListener((message, pattern) ->
+                        onMessage(new String(message.getBody(),
+                                StandardCharsets.UTF_8)),
+                new ChannelTopic(reminderProperties.getChannel()));
+    }
+
+    public synchronized boolean reset(final ReminderShard shard,
+                                      final LocalDateTime now) {
+        if (wheel != null && shard != null && shard.equals(this.shard)) {
+            return false;
+        }
+        this.wheel = new TimingWheel<>(
+                reminderProperties.getTick().toMillis(),
+                reminderProperties.getWheelSize(),
+                toMillis(now));
+        this.shard = shard;
+        this.loadedUntil = now;
+        return true;
+    }
+
+    public synchronized LocalDateTime getLoadedUntil() {
+        return loadedUntil;
+    }
+
+    public synchronized void setLoadedUntil(final LocalDateTime until) {
+        this.loadedUntil = until;
+    }
+
+    public synchronized void load(final Long taskId,
+                                  final LocalDateTime expirationDate) {
+        wheel.addIfAbsent(taskId, fireAt(taskId, expirationDate));
+    }
+
+    public synchronized List<Long> advance(final LocalDateTime now) {
+        return wheel.advance(toMillis(now));
+    }
+
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    public void schedule(final Long userId,
+                         final Long taskId,
+                         final LocalDateTime expirationDate) {
+        if (expirationDate == null) {
+            cancel(taskId);
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            apply(userId, taskId, expirationDate);
+            publish(taskId + SEPARATOR + userId + SEPARATOR
+                    + expirationDate);
+        });
+    }
+
+    public void cancel(final Long taskId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                wheel.remove(taskId);
+            }
+            publish(String.valueOf(taskId));
+        });
+    }
+
+    public void reload(final LocalDateTime from) {
+        TransactionCallbacks.afterCommit(() -> {
+            rewind(from);
+            publish(RELOAD + SEPARATOR + from);
+        });
+    }
+
+    void onMessage(final String message) {
+        String[] parts = message.split("\\" + SEPARATOR);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        if (RELOAD.equals(parts[1])) {
+            rewind(LocalDateTime.parse(parts[2]));
+            return;
+        }
+        Long taskId = Long.valueOf(parts[1]);
+        if (parts.length < 4) {
+            synchronized (this) {
+                wheel.remove(taskId);
+            }
+            return;
+        }
+        apply(Long.valueOf(parts[2]), taskId,
+                LocalDateTime.parse(parts[3]));
+    }
+
+    private synchronized void apply(final Long userId,
+                                    final Long taskId,
+                                    final LocalDateTime expirationDate) {
+        if (shard == null
+                || Math.floorMod(userId, shard.getCount())
+                != shard.getIndex()
+                || !expirationDate.isBefore(loadedUntil)) {
+            wheel.remove(taskId);
+            return;
+        }
+        wheel.add(taskId, fireAt(taskId, expirationDate));
+    }
+
+    private synchronized void rewind(final LocalDateTime from) {
+        if (from.isBefore(loadedUntil)) {
+            loadedUntil = from;
+        }
+    }
+
+    private long fireAt(final Long taskId,
+                        final LocalDateTime expirationDate) {
+        long fireAt = toMillis(expirationDate.minus(
+                reminderProperties.getLeadTime()));
+        long spread = reminderProperties.getSpread().toMillis();
+        if (spread > 0) {
+            fireAt -= Math.floorMod(taskId * SPREAD_MULTIPLIER, spread);
+        }
+        return fireAt;
+    }
+
+    private long toMillis(final LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime).getTime();
+    }
+
+    private void publish(final String message) {
+        redisTemplate.convertAndSend(reminderProperties.getChannel(),
+                nodeId + SEPARATOR + message);
+    }
+}
@@ -1,23 +1,45 @@
 package org.example.tasklist.service.impl;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.tasklist.config.CacheEvictionMap;
+import org.example.tasklist.domain.exception.ImageUploadException;
 import org.example.tasklist.domain.exception.ResourceNotFoundException;
+import org.example.tasklist.domain.task.PresignedImage;
+import org.example.tasklist.domain.task.ReminderShard;
 import org.example.tasklist.domain.task.Status;
 import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskBulk;
+import org.example.tasklist.domain.task.TaskBulkOperation;
+import org.example.tasklist.domain.task.TaskBulkResult;
 import org.example.tasklist.domain.task.TaskImage;
+import org.example.tasklist.domain.task.TaskPage;
+import org.example.tasklist.domain.task.TaskSearch;
+import org.example.tasklist.repository.TaskDueView;
+import org.example.tasklist.repository.TaskImageView;
+import org.example.tasklist.repository.TaskReminderView;
 import org.example.tasklist.repository.TaskRepository;
 import org.example.tasklist.service.ImageService;
 import org.example.tasklist.service.TaskService;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
+import org.example.tasklist.service.ThumbnailService;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,20 +47,131 @@ public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
     private final ImageService imageService;
+    private final ThumbnailService thumbnailService;
+    private final TaskProperties taskProperties;
+    private final EntityManager entityManager;
+    private final CacheEvictionMap cacheEvictionMap;
+    private final TaskOwnershipIndex taskOwnershipIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReminderSchedule reminderSchedule;
 
     @Override
     @Transactional(readOnly = true)
     @Cacheable(value = "TaskService::getById", key = "#id")
     public Task getById(final Long id) {
-        return taskRepository.findById(id)
+        Task task = taskRepository.findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Task not found"));
+        task.setThumbnails(getThumbnailsByTaskIds(List.of(id))
+                .getOrDefault(id, new ArrayList<>()));
+        return task;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Task> getAllByUserId(final Long id) {
-        return taskRepository.findAllByUserId(id);
+        return withImages(taskRepository.findAllByUserId(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getAllByIds(final Collection<Long> ids) {
+        return taskRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> getImagesByTaskIds(
+            final Collection<Long> ids) {
+        Map<Long, List<String>> images = new HashMap<>();
+        loadImages(ids, images, new HashMap<>());
+        return images;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> getThumbnailsByTaskIds(
+            final Collection<Long> ids) {
+        Map<Long, List<String>> thumbnails = new HashMap<>();
+        loadImages(ids, new HashMap<>(), thumbnails);
+        return thumbnails;
+    }
+
+    private void loadImages(final Collection<Long> ids,
+                            final Map<Long, List<String>> images,
+                            final Map<Long, List<String>> thumbnails) {
+        List<Long> taskIds = ids.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        int batchSize = taskProperties.getImageBatchSize();
+        for (int from = 0; from < taskIds.size(); from += batchSize) {
+            List<Long> batch = taskIds.subList(from,
+                    Math.min(from + batchSize, taskIds.size()));
+            for (TaskImageView view
+                    : taskRepository.findImagesByTaskIds(batch)) {
+                Map<Long, List<String>> target = images;
+                if (Boolean.TRUE.equals(view.getThumbnail())) {
+                    target = thumbnails;
+                }
+                target.computeIfAbsent(view.getTaskId(),
+                                key -> new ArrayList<>())
+                        .add(view.getImage());
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getPageByUserId(final Long id,
+                                    final Long after,
+                                    final Integer size) {
+        int limit = resolvePageSize(size);
+        long afterId = 0L;
+        if (after != null) {
+            afterId = after;
+        }
+        List<Task> tasks = taskRepository.findPageByUserId(id,
+                afterId,
+                limit + 1);
+        return toPage(tasks, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage search(final Long userId,
+                           final TaskSearch search,
+                           final Long after,
+                           final Integer size) {
+        int limit = resolvePageSize(size);
+        long afterId = 0L;
+        if (after != null) {
+            afterId = after;
+        }
+        TaskSearch filter = search;
+        if (filter == null) {
+            filter = new TaskSearch();
+        }
+        List<Task> tasks = taskRepository.search(userId, filter, afterId,
+                limit + 1);
+        return toPage(tasks, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllByUserId(final Long id,
+                                  final Consumer<Task> consumer) {
+        int chunkSize = taskProperties.getImageBatchSize();
+        List<Task> chunk = new ArrayList<>(chunkSize);
+        try (Stream<Task> tasks = taskRepository.streamAllByUserId(id)) {
+            tasks.forEach(task -> {
+                chunk.add(task);
+                if (chunk.size() == chunkSize) {
+                    withImages(chunk).forEach(consumer);
+                    chunk.clear();
+                }
+            });
+        }
+        withImages(chunk).forEach(consumer);
     }
 
     @Override
@@ -49,14 +182,61 @@ public class TaskServiceImpl implements TaskService {
                 Timestamp.valueOf(now.plus(duration)));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamReminderSchedule(
+            final LocalDateTime from,
+            final LocalDateTime to,
+            final ReminderShard shard,
+            final Consumer<TaskDueView> consumer) {
+        try (Stream<TaskDueView> tasks = taskRepository
+                .streamReminderSchedule(Timestamp.valueOf(from),
+                        Timestamp.valueOf(to),
+                        shard.getIndex(),
+                        shard.getCount())) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskReminderView> getDueReminders(
+            final Collection<Long> taskIds,
+            final LocalDateTime from,
+            final LocalDateTime to) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findDueReminders(taskIds,
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskReminderView> getOverdueReminders(
+            final LocalDateTime from,
+            final LocalDateTime to,
+            final int limit) {
+        return taskRepository.findOverdueReminders(Timestamp.valueOf(from),
+                Timestamp.valueOf(to),
+                limit);
+    }
+
     @Override
     @Transactional
-    @CachePut(value = "TaskService::getById", key = "#task.id")
     public Task update(final Task task) {
         if (task.getStatus() == null) {
             task.setStatus(Status.TODO);
         }
         taskRepository.save(task);
+        cacheEvictionMap.evictTask(task.getId());
+        Long userId = null;
+        if (task.getExpirationDate() != null
+                && task.getStatus() != Status.DONE) {
+            userId = taskRepository.findOwnerId(task.getId()).orElse(null);
+        }
+        reschedule(userId, task);
         return task;
     }
 
@@ -73,21 +253,223 @@ public class TaskServiceImpl implements TaskService {
         }
         taskRepository.save(task);
         taskRepository.assignTask(userId, task.getId());
+        taskOwnershipIndex.addTask(userId, task.getId());
+        reschedule(userId, task);
         return task;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "TaskService::getById", key = "#id")
     public void delete(final Long id) {
+        Long userId = taskRepository.findOwnerId(id).orElse(null);
         taskRepository.deleteById(id);
+        cacheEvictionMap.evictTask(id);
+        reminderSchedule.cancel(id);
+        if (userId != null) {
+            taskOwnershipIndex.removeTask(userId, id);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<TaskBulkResult> bulk(final TaskBulk bulk, final Long userId) {
+        int size = orEmpty(bulk.getCreate()).size()
+                + orEmpty(bulk.getUpdate()).size()
+                + orEmpty(bulk.getDelete()).size();
+        if (size > taskProperties.getMaxBulkSize()) {
+            throw new IllegalStateException("Bulk request is too large.");
+        }
+        List<TaskBulkResult> results = new ArrayList<>();
+        bulkCreate(orEmpty(bulk.getCreate()), userId, results);
+        bulkUpdate(orEmpty(bulk.getUpdate()), userId, results);
+        bulkDelete(orEmpty(bulk.getDelete()), userId, results);
+        return results;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "TaskService::getById", key = "#id")
     public void uploadImage(final Long id, final TaskImage image) {
         String fileName = imageService.upload(image);
         taskRepository.addImage(id, fileName);
+        cacheEvictionMap.evictTask(id);
+        thumbnailService.generate(id, fileName);
+    }
+
+    @Override
+    public PresignedImage createImageUploadUrl(final Long id,
+                                               final String fileName) {
+        return imageService.createUploadUrl(getImagePrefix(id), fileName);
+    }
+
+    @Override
+    @Transactional
+    public void confirmImage(final Long id, final String image) {
+        if (!image.startsWith(getImagePrefix(id))) {
+            throw new ImageUploadException("Image does not belong to task.");
+        }
+        if (!imageService.exists(image)) {
+            throw new ImageUploadException("Image was not uploaded.");
+        }
+        taskRepository.addImage(id, image);
+        cacheEvictionMap.evictTask(id);
+        thumbnailService.generate(id, image);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PresignedImage getImageUrl(final Long id, final String image) {
+        boolean found = taskRepository.findImagesByTaskIds(List.of(id))
+                .stream()
+                .map(TaskImageView::getImage)
+                .anyMatch(image::equals);
+        if (!found) {
+            throw new ResourceNotFoundException("Image not found.");
+        }
+        return imageService.createDownloadUrl(image);
+    }
+
+    private void bulkCreate(final List<Task> tasks,
+                            final Long userId,
+                            final List<TaskBulkResult> results) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        for (Task task : tasks) {
+            task.setId(null);
+            if (task.getStatus() == null) {
+                task.setStatus(Status.TODO);
+            }
+        }
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO users_tasks (user_id, task_id)
+                        VALUES (?, ?)
+                        """,
+                tasks,
+                taskProperties.getBulkBatchSize(),
+                (statement, task) -> {
+                    statement.setLong(1, userId);
+                    statement.setLong(2, task.getId());
+                });
+        for (int i = 0; i < tasks.size(); i++) {
+            Long id = tasks.get(i).getId();
+            taskOwnershipIndex.addTask(userId, id);
+            reschedule(userId, tasks.get(i));
+            results.add(new TaskBulkResult(TaskBulkOperation.CREATE,
+                    i, id, true, null));
+        }
+    }
+
+    private void bulkUpdate(final List<Task> tasks,
+                            final Long userId,
+                            final List<TaskBulkResult> results) {
+        List<Long> ids = tasks.stream()
+                .map(Task::getId)
+                .filter(id -> taskOwnershipIndex.isOwner(userId, id))
+                .toList();
+        Map<Long, Task> existing = new HashMap<>();
+        for (Task task : taskRepository.findAllById(ids)) {
+            existing.put(task.getId(), task);
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Task current = existing.get(task.getId());
+            if (current == null) {
+                results.add(new TaskBulkResult(TaskBulkOperation.UPDATE,
+                        i, task.getId(), false, "Task not found."));
+                continue;
+            }
+            current.setTitle(task.getTitle());
+            current.setDescription(task.getDescription());
+            current.setExpirationDate(task.getExpirationDate());
+            if (task.getStatus() != null) {
+                current.setStatus(task.getStatus());
+            }
+            cacheEvictionMap.evictTask(current.getId());
+            reschedule(userId, current);
+            results.add(new TaskBulkResult(TaskBulkOperation.UPDATE,
+                    i, current.getId(), true, null));
+        }
+    }
+
+    private void bulkDelete(final List<Long> ids,
+                            final Long userId,
+                            final List<TaskBulkResult> results) {
+        List<Long> owned = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (!taskOwnershipIndex.isOwner(userId, id)) {
+                results.add(new TaskBulkResult(TaskBulkOperation.DELETE,
+                        i, id, false, "Task not found."));
+                continue;
+            }
+            owned.add(id);
+            cacheEvictionMap.evictTask(id);
+            taskOwnershipIndex.removeTask(userId, id);
+            reminderSchedule.cancel(id);
+            results.add(new TaskBulkResult(TaskBulkOperation.DELETE,
+                    i, id, true, null));
+        }
+        if (!owned.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(owned);
+        }
+    }
+
+    private void reschedule(final Long userId, final Task task) {
+        if (userId == null || task.getStatus() == Status.DONE) {
+            reminderSchedule.cancel(task.getId());
+            return;
+        }
+        reminderSchedule.schedule(userId, task.getId(),
+                task.getExpirationDate());
+    }
+
+    private <T> List<T> orEmpty(final List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values;
+    }
+
+    private String getImagePrefix(final Long id) {
+        return "tasks/" + id + "/";
+    }
+
+    private TaskPage toPage(final List<Task> tasks, final int limit) {
+        List<Task> page = tasks;
+        Long nextCursor = null;
+        if (page.size() > limit) {
+            page = page.subList(0, limit);
+            nextCursor = page.get(limit - 1).getId();
+        }
+        return new TaskPage(withImages(page), nextCursor);
+    }
+
+    private List<Task> withImages(final List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+        List<Long> ids = tasks.stream()
+                .map(Task::getId)
+                .toList();
+        Map<Long, List<String>> images = new HashMap<>();
+        Map<Long, List<String>> thumbnails = new HashMap<>();
+        loadImages(ids, images, thumbnails);
+        tasks.forEach(task -> {
+            entityManager.detach(task);
+            task.setImages(images.getOrDefault(task.getId(),
+                    new ArrayList<>()));
+            task.setThumbnails(thumbnails.getOrDefault(task.getId(),
+                    new ArrayList<>()));
+        });
+        return tasks;
+    }
+
+    private int resolvePageSize(final Integer size) {
+        if (size == null || size <= 0) {
+            return taskProperties.getPageSize();
+        }
+        return Math.min(size, taskProperties.getMaxPageSize());
     }
 }
@@ -0,0 +1,398 @@
+package org.example.tasklist.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskFormat;
+import org.example.tasklist.service.TaskTransferService;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskTransferServiceImpl implements TaskTransferService {
+
+    private static final String SELECT_TASKS = """
+            SELECT t.id, t.title, t.description, t.status, t.expiration_date
+            FROM users_tasks ut
+            JOIN tasks t ON t.id = ut.task_id
+            WHERE ut.user_id = ?
+            ORDER BY ut.task_id
+            """;
+    private static final String NEXT_ID = "SELECT nextval('tasks_id_seq')";
+    private static final String INSERT_TASK = """
+            INSERT INTO tasks (id, title, description, status,
+            expiration_date)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_USER_TASK = """
+            INSERT INTO users_tasks (user_id, task_id)
+            VALUES (?, ?)
+            """;
+    private static final List<String> HEADER = List.of("id", "title",
+            "description", "status", "expiration_date");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskProperties taskProperties;
+    private final TaskOwnershipIndex taskOwnershipIndex;
+    private final ReminderSchedule reminderSchedule;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(final Long userId,
+                            final TaskFormat format,
+                            final OutputStream output) {
+        Progress progress = new Progress("Exported", userId, format);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output,
+                    StandardCharsets.UTF_8), BUFFER_SIZE);
+            TaskWriter taskWriter = taskWriter(format, writer);
+            RowCallbackHandler handler = resultSet -> {
+                write(taskWriter, toTask(resultSet));
+                progress.increment();
+            };
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SELECT_TASKS,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(taskProperties.getTransferFetchSize());
+                statement.setLong(1, userId);
+                return statement;
+            }, handler);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return progress.getCount();
+    }
+
+    @Override
+    @Transactional
+    public long importTasks(final Long userId,
+                            final TaskFormat format,
+                            final InputStream input) {
+        Progress progress = new Progress("Imported", userId, format);
+        IdAllocator ids = new IdAllocator();
+        int batchSize = taskProperties.getTransferBatchSize();
+        List<Task> batch = new ArrayList<>(batchSize);
+        LocalDateTime earliest = null;
+        try {
+            TaskReader taskReader = taskReader(format, input);
+            Task task = read(taskReader, progress.getCount() + 1);
+            while (task != null) {
+                task.setId(ids.next());
+                earliest = earliest(earliest, task.getExpirationDate());
+                batch.add(task);
+                if (batch.size() == batchSize) {
+                    insert(userId, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+                progress.increment();
+                task = read(taskReader, progress.getCount() + 1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        insert(userId, batch);
+        if (progress.getCount() > 0) {
+            taskOwnershipIndex.removeUser(userId);
+        }
+        if (earliest != null) {
+            reminderSchedule.reload(earliest);
+        }
+        return progress.getCount();
+    }
+
+    private TaskWriter taskWriter(final TaskFormat format,
+                                  final Writer writer) throws IOException {
+        if (format == TaskFormat.CSV) {
+            TaskCsv.write(writer, HEADER);
+            return task -> TaskCsv.write(writer, Arrays.asList(
+                    String.valueOf(task.getId()),
+                    task.getTitle(),
+                    task.getDescription(),
+                    task.getStatus().name(),
+                    format(task.getExpirationDate())));
+        }
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(writer)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .setRootValueSeparator(null);
+        return task -> {
+            generator.writeStartObject();
+            generator.writeNumberField("id", task.getId());
+            generator.writeStringField("title", task.getTitle());
+            generator.writeStringField("description",
+                    task.getDescription());
+            generator.writeStringField("status", task.getStatus().name());
+            generator.writeStringField("expirationDate",
+                    format(task.getExpirationDate()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        };
+    }
+
+    private TaskReader taskReader(final TaskFormat format,
+                                  final InputStream input) throws IOException {
+        if (format == TaskFormat.CSV) {
+            return csvReader(new BufferedReader(new InputStreamReader(input,
+                    StandardCharsets.UTF_8), BUFFER_SIZE));
+        }
+        MappingIterator<JsonNode> nodes = objectMapper
+                .readerFor(JsonNode.class)
+                .readValues(input);
+        return () -> {
+            if (!nodes.hasNextValue()) {
+                return null;
+            }
+            JsonNode node = nodes.nextValue();
+            return toTask(text(node, "title"),
+                    text(node, "description"),
+                    text(node, "status"),
+                    text(node, "expirationDate"));
+        };
+    }
+
+    private TaskReader csvReader(final Reader reader) throws IOException {
+        List<String> header = TaskCsv.read(reader);
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        return () -> {
+            List<String> record = TaskCsv.read(reader);
+            while (record != null && record.size() == 1
+                    && record.get(0).isEmpty()) {
+                record = TaskCsv.read(reader);
+            }
+            if (record == null) {
+                return null;
+            }
+            return toTask(column(record, columns, "title"),
+                    column(record, columns, "description"),
+                    column(record, columns, "status"),
+                    column(record, columns, "expiration_date"));
+        };
+    }
+
+    private Task read(final TaskReader taskReader,
+                      final long record) throws IOException {
+        try {
+            return taskReader.read();
+        } catch (JsonProcessingException
+                 | IllegalArgumentException
+                 | DateTimeException e) {
+            throw new IllegalStateException("Invalid task at record "
+                    + record + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void write(final TaskWriter taskWriter, final Task task) {
+        try {
+            taskWriter.write(task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void insert(final Long userId, final List<Task> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TASK, batch, batch.size(),
+                (statement, task) -> {
+                    statement.setLong(1, task.getId());
+                    statement.setString(2, task.getTitle());
+                    statement.setString(3, task.getDescription());
+                    statement.setString(4, task.getStatus().name());
+                    statement.setTimestamp(5,
+                            timestamp(task.getExpirationDate()));
+                });
+        jdbcTemplate.batchUpdate(INSERT_USER_TASK, batch, batch.size(),
+                (statement, task) -> {
+                    statement.setLong(1, userId);
+                    statement.setLong(2, task.getId());
+                });
+    }
+
+    private Task toTask(final ResultSet resultSet) throws SQLException {
+        Task task = new Task();
+        task.setId(resultSet.getLong("id"));
+        task.setTitle(resultSet.getString("title"));
+        task.setDescription(resultSet.getString("description"));
+        task.setStatus(Status.valueOf(resultSet.getString("status")));
+        Timestamp expirationDate = resultSet.getTimestamp("expiration_date");
+        if (expirationDate != null) {
+            task.setExpirationDate(expirationDate.toLocalDateTime());
+        }
+        return task;
+    }
+
+    private Task toTask(final String title,
+                        final String description,
+                        final String status,
+                        final String expirationDate) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        if (title.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("title is too long");
+        }
+        if (description != null && description.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("description is too long");
+        }
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(Status.TODO);
+        if (status != null) {
+            task.setStatus(Status.valueOf(status));
+        }
+        if (expirationDate != null) {
+            task.setExpirationDate(LocalDateTime.parse(expirationDate));
+        }
+        return task;
+    }
+
+    private String column(final List<String> record,
+                          final Map<String, Integer> columns,
+                          final String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()
+                || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private String text(final JsonNode node, final String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.asText();
+    }
+
+    private String format(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.toString();
+    }
+
+    private LocalDateTime earliest(final LocalDateTime earliest,
+                                   final LocalDateTime dateTime) {
+        if (earliest == null || dateTime != null
+                && dateTime.isBefore(earliest)) {
+            return dateTime;
+        }
+        return earliest;
+    }
+
+    private Timestamp timestamp(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return Timestamp.valueOf(dateTime);
+    }
+
+    private interface TaskWriter {
+
+        void write(Task task) throws IOException;
+    }
+
+    private interface TaskReader {
+
+        Task read() throws IOException;
+    }
+
+    private final class IdAllocator {
+
+        private long next = 1;
+        private long max = 0;
+
+        long next() {
+            if (next > max) {
+                max = jdbcTemplate.queryForObject(NEXT_ID, Long.class);
+                next = Math.max(1, max - Task.ID_ALLOCATION_SIZE + 1);
+            }
+            return next++;
+        }
+    }
+
+    private final class Progress {
+
+        private final String action;
+        private final Long userId;
+        private final Counter counter;
+        private long count;
+
+        Progress(final String action,
+                 final Long userId,
+                 final TaskFormat format) {
+            this.action = action;
+            this.userId = userId;
+            this.counter = Counter.builder("tasks.transfer.rows")
+                    .tag("action", action.toLowerCase(Locale.ROOT))
+                    .tag("format", format.getExtension())
+                    .register(meterRegistry);
+        }
+
+        void increment() {
+            count++;
+            counter.increment();
+            if (count % taskProperties.getTransferProgressInterval() == 0) {
+                log.info("{} {} tasks of user {}", action, count, userId);
+            }
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.tasklist.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.config.CacheEvictionMap;
+import org.example.tasklist.config.TransactionCallbacks;
+import org.example.tasklist.service.ThumbnailService;
+import org.example.tasklist.service.props.MinioProperties;
+import org.example.tasklist.service.props.ThumbnailProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final String DEFAULT_FORMAT = "png";
+    private static final String INSERT_THUMBNAIL = """
+            INSERT INTO tasks_thumbnails (task_id, thumbnail)
+            SELECT t.id, ? FROM tasks t
+            WHERE t.id = ?
+            AND NOT EXISTS (SELECT 1 FROM tasks_thumbnails tt
+            WHERE tt.task_id = t.id AND tt.thumbnail = ?)
+            """;
+
+    private final MinioClient minioClient;
+    private final MinioProperties minioProperties;
+    private final ThumbnailProperties thumbnailProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheEvictionMap cacheEvictionMap;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Timer conversionTimer;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+    private Counter oversizedCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = thumbnailProperties.getPoolSize();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(
+                        thumbnailProperties.getQueueCapacity()),
+                new CustomizableThreadFactory("thumbnail-")
+        );
+        this.conversionTimer = Timer.builder("thumbnails.conversion")
+                .description("Time to generate and store a thumbnail")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("thumbnails.failed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("thumbnails.rejected")
+                .register(meterRegistry);
+        this.oversizedCounter = Counter.builder("thumbnails.oversized")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void generate(final Long taskId, final String image) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                executor.execute(() -> conversionTimer.record(
+                        () -> createThumbnail(taskId, image)));
+            } catch (RejectedExecutionException e) {
+                rejectedCounter.increment();
+                log.warn("Thumbnail queue is full, skipping {}", image);
+            }
+        });
+    }
+
+    void createThumbnail(final Long taskId, final String image) {
+        try {
+            BufferedImage original;
+            try (InputStream inputStream = minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .object(image)
+                            .build())) {
+                original = read(inputStream, image);
+            }
+            if (original == null) {
+                return;
+            }
+            String format = getFormat(image);
+            BufferedImage thumbnail = scale(original, format);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            String contentType = write(thumbnail, format, outputStream);
+            if (contentType == null) {
+                format = DEFAULT_FORMAT;
+                thumbnail = scale(original, format);
+                outputStream.reset();
+                contentType = write(thumbnail, format, outputStream);
+            }
+            if (contentType == null) {
+                throw new IllegalStateException(
+                        "No image writer for " + format);
+            }
+            byte[] content = outputStream.toByteArray();
+            String name = ThumbnailService.nameOf(image, format);
+            minioClient.putObject(PutObjectArgs.builder()
+                    .stream(new ByteArrayInputStream(content),
+                            content.length,
+                            -1)
+                    .bucket(minioProperties.getBucket())
+                    .object(name)
+                    .contentType(contentType)
+                    .build());
+            jdbcTemplate.update(INSERT_THUMBNAIL, name, taskId, name);
+            cacheEvictionMap.evictTask(taskId);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Thumbnail for {} failed", image, e);
+        }
+    }
+
+    private BufferedImage read(final InputStream inputStream,
+                               final String image) throws IOException {
+        try (ImageInputStream input =
+                     ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = input == null
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.warn("Unsupported image format for {}", image);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                long pixels = (long) width * height;
+                if (pixels > thumbnailProperties.getMaxPixels()) {
+                    oversizedCounter.increment();
+                    log.warn("Image {} is too large for a thumbnail: {}x{}",
+                            image, width, height);
+                    return null;
+                }
+                int step = Math.max(1, Math.min(
+                        width / thumbnailProperties.getWidth(),
+                        height / thumbnailProperties.getHeight()));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String write(final BufferedImage thumbnail,
+                         final String format,
+                         final ByteArrayOutputStream outputStream)
+            throws IOException {
+        Iterator<ImageWriter> writers =
+                ImageIO.getImageWritersByFormatName(format);
+        while (writers.hasNext()) {
+            ImageWriter writer = writers.next();
+            ImageWriterSpi provider = writer.getOriginatingProvider();
+            if (!provider.canEncodeImage(thumbnail)) {
+                writer.dispose();
+                continue;
+            }
+            try (ImageOutputStream output =
+                         ImageIO.createImageOutputStream(outputStream)) {
+                writer.setOutput(output);
+                writer.write(thumbnail);
+            } finally {
+                writer.dispose();
+            }
+            return provider.getMIMETypes()[0];
+        }
+        return null;
+    }
+
+    private BufferedImage scale(final BufferedImage original,
+                                final String format) {
+        double ratio = Math.min(
+                (double) thumbnailProperties.getWidth() / original.getWidth(),
+                (double) thumbnailProperties.getHeight()
+                        / original.getHeight());
+        ratio = Math.min(ratio, 1.0);
+        int width = Math.max(1, (int) Math.round(original.getWidth() * ratio));
+        int height = Math.max(1,
+                (int) Math.round(original.getHeight() * ratio));
+        int type = BufferedImage.TYPE_INT_RGB;
+        if (original.getColorModel().hasAlpha()
+                && DEFAULT_FORMAT.equals(format)) {
+            type = BufferedImage.TYPE_INT_ARGB;
+        }
+        BufferedImage thumbnail = new BufferedImage(width, height, type);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+
+    private String getFormat(final String image) {
+        return image.substring(image.lastIndexOf(".") + 1)
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.tasklist.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TimingWheel<K> {
+
+    private final long tick;
+    private final int wheelSize;
+    private final List<Level<K>> levels = new ArrayList<>();
+    private final Map<K, Map<K, Long>> buckets = new HashMap<>();
+    private final Map<K, Long> due = new LinkedHashMap<>();
+
+    private long time;
+
+    TimingWheel(final long tick, final int wheelSize, final long start) {
+        if (tick <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Invalid timing wheel.");
+        }
+        this.tick = tick;
+        this.wheelSize = wheelSize;
+        this.time = start - Math.floorMod(start, tick);
+        levels.add(new Level<>(tick, wheelSize));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    boolean contains(final K key) {
+        return buckets.containsKey(key);
+    }
+
+    void add(final K key, final long deadline) {
+        remove(key);
+        place(key, deadline);
+    }
+
+    void addIfAbsent(final K key, final long deadline) {
+        if (!buckets.containsKey(key)) {
+            place(key, deadline);
+        }
+    }
+
+    void remove(final K key) {
+        Map<K, Long> bucket = buckets.remove(key);
+        if (bucket != null) {
+            bucket.remove(key);
+        }
+    }
+
+    List<K> advance(final long now) {
+        List<K> expired = new ArrayList<>();
+        drain(due, expired);
+        while (time + tick <= now) {
+            time += tick;
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level<K> level = levels.get(i);
+                if (time % level.tick == 0) {
+                    Map<K, Long> bucket = level.bucket(time);
+                    List<Map.Entry<K, Long>> entries =
+                            new ArrayList<>(bucket.entrySet());
+                    bucket.clear();
+                    for (Map.Entry<K, Long> entry : entries) {
+                        buckets.remove(entry.getKey());
+                        place(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            drain(levels.get(0).bucket(time), expired);
+            drain(due, expired);
+        }
+        return expired;
+    }
+
+    private void place(final K key, final long deadline) {
+        if (deadline < time + tick) {
+            due.put(key, deadline);
+            buckets.put(key, due);
+            return;
+        }
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<K> last = levels.get(i - 1);
+                levels.add(new Level<>(last.tick * wheelSize, wheelSize));
+            }
+            Level<K> level = levels.get(i);
+            if (deadline / level.tick - time / level.tick < wheelSize) {
+                Map<K, Long> bucket = level.bucket(deadline);
+                bucket.put(key, deadline);
+                buckets.put(key, bucket);
+                return;
+            }
+        }
+    }
+
+    private void drain(final Map<K, Long> bucket, final List<K> expired) {
+        for (K key : bucket.keySet()) {
+            buckets.remove(key);
+            expired.add(key);
+        }
+        bucket.clear();
+    }
+
+    private static final class Level<K> {
+
+        private final long tick;
+        private final List<Map<K, Long>> slots;
+
+        private Level(final long tick, final int wheelSize) {
+            this.tick = tick;
+            this.slots = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                slots.add(new LinkedHashMap<>());
+            }
+        }
+
+        private Map<K, Long> bucket(final long deadline) {
+            return slots.get((int) Math.floorMod(deadline / tick,
+                    (long) slots.size()));
+        }
+    }
+}
@@ -1,21 +1,30 @@
 package org.example.tasklist.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.example.tasklist.config.CacheEvictionMap;
+import org.example.tasklist.config.TransactionCallbacks;
 import org.example.tasklist.domain.MailType;
 import org.example.tasklist.domain.exception.ResourceNotFoundException;
 import org.example.tasklist.domain.user.Role;
 import org.example.tasklist.domain.user.User;
+import org.example.tasklist.repository.TaskAuthorView;
 import org.example.tasklist.repository.UserRepository;
-import org.example.tasklist.service.MailService;
+import org.example.tasklist.service.MailOutboxService;
 import org.example.tasklist.service.UserService;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
+import org.example.tasklist.web.security.TokenDenyList;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -24,7 +33,11 @@ import java.util.Set;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
+    private final TokenDenyList tokenDenyList;
+    private final CacheEvictionMap cacheEvictionMap;
+    private final TaskOwnershipIndex taskOwnershipIndex;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     @Transactional(readOnly = true)
@@ -46,17 +59,28 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    @Caching(put = {
-            @CachePut(value = "UserService::getById", key = "#user.id"),
-            @CachePut(value = "UserService::getByUsername",
-                    key = "#user.username")
-    })
     public User update(final User user) {
+        List<String> usernames = getUsernames(user.getId());
+        usernames.add(user.getUsername());
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
+        revokeTokens(user.getId());
+        evictUser(user.getId(), usernames);
         return user;
     }
 
+    @Override
+    @Transactional
+    public void updatePassword(final Long id,
+                               final String encodedPassword) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("User not found."));
+        user.setPassword(encodedPassword);
+        userRepository.save(user);
+        evictUser(id, List.of(user.getUsername()));
+    }
+
     @Override
     @Transactional
     @Caching(cacheable = {
@@ -84,24 +108,25 @@ public class UserServiceImpl implements UserService {
         Set<Role> roles = Set.of(Role.ROLE_USER);
         user.setRoles(roles);
         userRepository.save(user);
-        mailService.sendEmail(user, MailType.REGISTRATION, new Properties());
+        mailOutboxService.enqueue(user,
+                MailType.REGISTRATION,
+                new Properties());
         return user;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "UserService::isTaskOwner",
-            key = "#userId + '.' + #taskId")
     public boolean isTaskOwner(final Long userId, final Long taskId) {
-
-        return userRepository.isTaskOwner(userId, taskId);
+        return taskOwnershipIndex.isOwner(userId, taskId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "UserService::getById", key = "#id")
     public void delete(final Long id) {
+        List<String> usernames = getUsernames(id);
+        evictUser(id, usernames);
         userRepository.deleteById(id);
+        revokeTokens(id);
+        taskOwnershipIndex.removeUser(id);
     }
 
     @Override
@@ -113,4 +138,48 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() ->
                         new ResourceNotFoundException("User not found."));
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, User> getTaskAuthors(final Collection<Long> taskIds) {
+        Map<Long, User> users = new HashMap<>();
+        Map<Long, User> authors = new HashMap<>();
+        for (TaskAuthorView view : userRepository.findTaskAuthors(taskIds)) {
+            User user = users.computeIfAbsent(view.getId(), id -> {
+                User author = new User();
+                author.setId(id);
+                author.setName(view.getName());
+                author.setUsername(view.getUsername());
+                return author;
+            });
+            authors.put(view.getTaskId(), user);
+        }
+        return authors;
+    }
+
+    private List<String> getUsernames(final Long id) {
+        List<String> usernames = new ArrayList<>();
+        if (id != null) {
+            userRepository.findById(id)
+                    .map(User::getUsername)
+                    .ifPresent(usernames::add);
+        }
+        return usernames;
+    }
+
+    private void revokeTokens(final Long id) {
+        TransactionCallbacks.afterCommit(() -> {
+            tokenDenyList.revokeUser(id);
+            refreshTokenStore.revokeUser(id);
+        });
+    }
+
+    private void evictUser(final Long id, final List<String> usernames) {
+        if (id == null) {
+            return;
+        }
+        cacheEvictionMap.evictUser(id,
+                usernames,
+                userRepository.findTaskIds(id));
+    }
 }
@@ -0,0 +1,44 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Duration defaultTtl = Duration.ofMinutes(10);
+    private long defaultMaxSize = 10_000;
+    private Map<String, Spec> specs = new HashMap<>();
+    private Duration metricsInterval = Duration.ofMinutes(1);
+    private int memorySampleSize = 100;
+
+    public Duration getTtl(final String cacheName) {
+        Spec spec = specs.get(cacheName);
+        if (spec == null || spec.getTtl() == null) {
+            return defaultTtl;
+        }
+        return spec.getTtl();
+    }
+
+    public long getMaxSize(final String cacheName) {
+        Spec spec = specs.get(cacheName);
+        if (spec == null || spec.getMaxSize() == null) {
+            return defaultMaxSize;
+        }
+        return spec.getMaxSize();
+    }
+
+    @Data
+    public static class Spec {
+
+        private Duration ttl;
+        private Long maxSize;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "graphql.cost")
+public class GraphqlCostProperties {
+
+    private int maxDepth = 8;
+    private long maxCost = 5000;
+    private long budget = 50_000;
+    private Duration window = Duration.ofMinutes(1);
+    private long maxUsers = 100_000;
+    private int defaultWeight = 1;
+    private int defaultListSize = 50;
+    private Map<String, Integer> weights = new HashMap<>();
+
+    public int getWeight(final String typeName, final String fieldName) {
+        return weights.getOrDefault(typeName + "." + fieldName,
+                defaultWeight);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "graphql.documents")
+public class GraphqlDocumentProperties {
+
+    private long maxSize = 1000;
+    private int maxQueryLength = 100_000;
+}
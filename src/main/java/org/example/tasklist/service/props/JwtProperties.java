@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @Data
 @ConfigurationProperties(prefix = "security.jwt")
@@ -12,4 +14,9 @@ public class JwtProperties {
     private String secret;
     private Long access;
     private Long refresh;
+    private long cacheSize = 10_000;
+    private Duration cacheTtl = Duration.ofMinutes(5);
+    private boolean stateless;
+    private long refreshCacheSize = 100_000;
+    private String revocationChannel = "token-revocations";
 }
@@ -0,0 +1,17 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "mail.outbox")
+public class MailOutboxProperties {
+
+    private int batchSize = 50;
+    private int maxAttempts = 5;
+    private Duration retryBackoff = Duration.ofMinutes(1);
+}
@@ -3,6 +3,9 @@ package org.example.tasklist.service.props;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Component
 @Data
@@ -13,4 +16,8 @@ public class MinioProperties {
     private String url;
     private String accessKey;
     private String secretKey;
+    private DataSize partSize = DataSize.ofMegabytes(16);
+    private DataSize parallelThreshold = DataSize.ofMegabytes(64);
+    private int uploadThreads = 4;
+    private Duration presignedUrlExpiry = Duration.ofMinutes(15);
 }
@@ -0,0 +1,16 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "cache.near")
+public class NearCacheProperties {
+
+    private Duration ttl = Duration.ofMinutes(5);
+    private String channel = "cache-invalidation";
+}
@@ -0,0 +1,18 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordProperties {
+
+    private int strength = 10;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 50;
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,33 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "reminder")
+public class ReminderProperties {
+
+    private Duration leadTime = Duration.ofHours(1);
+    private Duration spread = Duration.ofMinutes(5);
+    private Duration tick = Duration.ofSeconds(1);
+    private int wheelSize = 64;
+    private Duration horizon = Duration.ofHours(6);
+    private Duration loadInterval = Duration.ofMinutes(1);
+    private String channel = "task-reminders";
+    private int poolSize = 8;
+    private int queueCapacity = 100;
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    private String nodeId = UUID.randomUUID().toString();
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+    private Duration nodeTtl = Duration.ofSeconds(30);
+    private Duration sentRetention = Duration.ofDays(7);
+    private Duration rescanInterval = Duration.ofMinutes(1);
+    private Duration rescanDelay = Duration.ofMinutes(2);
+    private int rescanBatchSize = 1000;
+}
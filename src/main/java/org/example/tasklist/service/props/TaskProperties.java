@@ -0,0 +1,25 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasks")
+public class TaskProperties {
+
+    private int pageSize = 50;
+    private int maxPageSize = 500;
+    private int imageBatchSize = 1000;
+    private int bulkBatchSize = 50;
+    private int maxBulkSize = 10_000;
+    private int transferFetchSize = 1000;
+    private int transferBatchSize = 1000;
+    private long transferProgressInterval = 100_000;
+    private long ownershipIndexSize = 100_000;
+    private Duration ownershipIndexTtl = Duration.ofMinutes(30);
+    private String ownershipChannel = "task-ownership";
+}
@@ -0,0 +1,17 @@
+package org.example.tasklist.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "thumbnails")
+public class ThumbnailProperties {
+
+    private int width = 256;
+    private int height = 256;
+    private int poolSize = 2;
+    private int queueCapacity = 100;
+    private long maxPixels = 50_000_000L;
+}
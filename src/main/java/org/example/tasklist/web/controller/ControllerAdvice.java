@@ -7,6 +7,7 @@ import org.example.tasklist.domain.exception.AccessDeniedException;
 import org.example.tasklist.domain.exception.ImageUploadException;
 import org.example.tasklist.domain.exception.ResourceMappingException;
 import org.example.tasklist.domain.exception.ResourceNotFoundException;
+import org.example.tasklist.domain.exception.ServiceUnavailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -42,6 +43,13 @@ public class ControllerAdvice {
         return new ExceptionBody(e.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handleServiceUnavailable(
+            final ServiceUnavailableException e) {
+        return new ExceptionBody(e.getMessage());
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleIllegalState(
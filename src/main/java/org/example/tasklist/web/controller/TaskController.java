@@ -3,17 +3,20 @@ package org.example.tasklist.web.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.example.tasklist.domain.task.PresignedImage;
 import org.example.tasklist.domain.task.Task;
 import org.example.tasklist.domain.task.TaskImage;
 import org.example.tasklist.service.TaskService;
+import org.example.tasklist.web.dto.task.PresignedImageDto;
 import org.example.tasklist.web.dto.task.TaskDto;
+import org.example.tasklist.web.dto.task.TaskImageConfirmDto;
 import org.example.tasklist.web.dto.task.TaskImageDto;
 import org.example.tasklist.web.dto.validation.OnUpdate;
+import org.example.tasklist.web.mappers.PresignedImageMapper;
 import org.example.tasklist.web.mappers.TaskImageMapper;
 import org.example.tasklist.web.mappers.TaskMapper;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
-import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -36,6 +40,7 @@ public class TaskController {
     private final TaskService taskService;
     private final TaskMapper taskMapper;
     private final TaskImageMapper taskImageMapper;
+    private final PresignedImageMapper presignedImageMapper;
 
     @PutMapping
     @MutationMapping(name = "updateTask")
@@ -50,7 +55,6 @@ public class TaskController {
     }
 
     @GetMapping("/{id}")
-    @QueryMapping(name = "taskById")
     @Operation(summary = "Get TaskDto by id")
     @PreAuthorize("canAccessTask(#id)")
     public TaskDto getById(@PathVariable @Argument final Long id) {
@@ -75,4 +79,33 @@ public class TaskController {
         TaskImage image = taskImageMapper.toEntity(imageDto);
         taskService.uploadImage(id, image);
     }
+
+    @PostMapping("/{id}/image/upload-url")
+    @Operation(summary = "Get presigned url to upload image to task by id")
+    @PreAuthorize("canAccessTask(#id)")
+    public PresignedImageDto createImageUploadUrl(
+            @PathVariable final Long id,
+            @RequestParam final String fileName) {
+        PresignedImage image = taskService.createImageUploadUrl(id, fileName);
+        return presignedImageMapper.toDto(image);
+    }
+
+    @PostMapping("/{id}/image/confirm")
+    @Operation(summary = "Confirm image uploaded by presigned url")
+    @PreAuthorize("canAccessTask(#id)")
+    public void confirmImage(
+            @PathVariable final Long id,
+            @Validated @RequestBody final TaskImageConfirmDto confirmDto) {
+        taskService.confirmImage(id, confirmDto.getImage());
+    }
+
+    @GetMapping("/{id}/image/url")
+    @Operation(summary = "Get presigned url to download image of task")
+    @PreAuthorize("canAccessTask(#id)")
+    public PresignedImageDto getImageUrl(
+            @PathVariable final Long id,
+            @RequestParam final String image) {
+        PresignedImage presignedImage = taskService.getImageUrl(id, image);
+        return presignedImageMapper.toDto(presignedImage);
+    }
 }
@@ -0,0 +1,179 @@
+package org.example.tasklist.web.controller;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
+import org.example.tasklist.domain.exception.ResourceNotFoundException;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskPage;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.TaskService;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.dto.task.TaskDto;
+import org.example.tasklist.web.dto.task.TaskPageDto;
+import org.example.tasklist.web.dto.task.TaskSearchDto;
+import org.example.tasklist.web.dto.user.UserDto;
+import org.example.tasklist.web.mappers.TaskMapper;
+import org.example.tasklist.web.mappers.TaskSearchMapper;
+import org.example.tasklist.web.mappers.UserMapper;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Controller
+@RequiredArgsConstructor
+public class TaskGraphqlController {
+
+    private static final String TASKS = "tasks";
+    private static final String TASK_IMAGES = "taskImages";
+    private static final String TASK_THUMBNAILS = "taskThumbnails";
+    private static final String TASK_AUTHORS = "taskAuthors";
+
+    private final TaskService taskService;
+    private final UserService userService;
+    private final TaskProperties taskProperties;
+    private final TaskMapper taskMapper;
+    private final TaskSearchMapper taskSearchMapper;
+    private final UserMapper userMapper;
+    private final BatchLoaderRegistry batchLoaderRegistry;
+
+    @PostConstruct
+    public void init() {
+        int maxBatchSize = taskProperties.getImageBatchSize();
+        batchLoaderRegistry.<Long, Task>forName(TASKS)
+                .withOptions(options -> options.setMaxBatchSize(maxBatchSize))
+                .registerMappedBatchLoader((ids, environment) ->
+                        Mono.fromCallable(() ->
+                                byId(taskService.getAllByIds(ids))));
+        batchLoaderRegistry.<Long, List<String>>forName(TASK_IMAGES)
+                .withOptions(options -> options.setMaxBatchSize(maxBatchSize))
+                .registerMappedBatchLoader((ids, environment) ->
+                        Mono.fromCallable(() -> {
+                            Map<Long, List<String>> images =
+                                    taskService.getImagesByTaskIds(ids);
+                            ids.forEach(id ->
+                                    images.putIfAbsent(id, List.of()));
+                            return images;
+                        }));
+        batchLoaderRegistry.<Long, List<String>>forName(TASK_THUMBNAILS)
+                .withOptions(options -> options.setMaxBatchSize(maxBatchSize))
+                .registerMappedBatchLoader((ids, environment) ->
+                        Mono.fromCallable(() -> {
+                            Map<Long, List<String>> thumbnails =
+                                    taskService.getThumbnailsByTaskIds(ids);
+                            ids.forEach(id ->
+                                    thumbnails.putIfAbsent(id, List.of()));
+                            return thumbnails;
+                        }));
+        batchLoaderRegistry.<Long, User>forName(TASK_AUTHORS)
+                .withOptions(options -> options.setMaxBatchSize(maxBatchSize))
+                .registerMappedBatchLoader((ids, environment) ->
+                        Mono.fromCallable(() ->
+                                userService.getTaskAuthors(ids)));
+    }
+
+    @QueryMapping(name = "taskById")
+    @PreAuthorize("canAccessTask(#id)")
+    public CompletableFuture<TaskDto> getById(
+            @Argument final Long id,
+            final DataLoader<Long, Task> tasks) {
+        return tasks.load(id).thenApply(task -> {
+            if (task == null) {
+                throw new ResourceNotFoundException("Task not found");
+            }
+            return taskMapper.toSummaryDto(task);
+        });
+    }
+
+    @QueryMapping(name = "tasksByUserId")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public List<TaskDto> getTasksByUserId(
+            @Argument final Long id,
+            final DataLoader<Long, List<String>> taskImages,
+            final DataLoader<Long, List<String>> taskThumbnails) {
+        List<Task> tasks = taskService.getAllByUserId(id);
+        return toSummaryDto(tasks, taskImages, taskThumbnails);
+    }
+
+    @QueryMapping(name = "tasksPageByUserId")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public TaskPageDto getTaskPageByUserId(
+            @Argument final Long id,
+            @Argument final Long after,
+            @Argument final Integer size,
+            final DataLoader<Long, List<String>> taskImages,
+            final DataLoader<Long, List<String>> taskThumbnails) {
+        TaskPage page = taskService.getPageByUserId(id, after, size);
+        return new TaskPageDto(toSummaryDto(page.getTasks(), taskImages,
+                taskThumbnails),
+                page.getNextCursor());
+    }
+
+    @QueryMapping(name = "searchTasks")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public TaskPageDto searchTasks(
+            @Argument final Long id,
+            @Argument final TaskSearchDto search,
+            @Argument final Long after,
+            @Argument final Integer size,
+            final DataLoader<Long, List<String>> taskImages,
+            final DataLoader<Long, List<String>> taskThumbnails) {
+        TaskPage page = taskService.search(id,
+                taskSearchMapper.toEntity(search), after, size);
+        return new TaskPageDto(toSummaryDto(page.getTasks(), taskImages,
+                taskThumbnails),
+                page.getNextCursor());
+    }
+
+    @SchemaMapping(typeName = "Task", field = "images")
+    public CompletableFuture<List<String>> getImages(
+            final TaskDto task,
+            final DataLoader<Long, List<String>> taskImages) {
+        return taskImages.load(task.getId());
+    }
+
+    @SchemaMapping(typeName = "Task", field = "thumbnails")
+    public CompletableFuture<List<String>> getThumbnails(
+            final TaskDto task,
+            final DataLoader<Long, List<String>> taskThumbnails) {
+        return taskThumbnails.load(task.getId());
+    }
+
+    @SchemaMapping(typeName = "Task", field = "author")
+    public CompletableFuture<UserDto> getAuthor(
+            final TaskDto task,
+            final DataLoader<Long, User> taskAuthors) {
+        return taskAuthors.load(task.getId())
+                .thenApply(userMapper::toDto);
+    }
+
+    private List<TaskDto> toSummaryDto(
+            final List<Task> tasks,
+            final DataLoader<Long, List<String>> taskImages,
+            final DataLoader<Long, List<String>> taskThumbnails) {
+        return tasks.stream()
+                .map(task -> {
+                    taskImages.prime(task.getId(), task.getImages());
+                    taskThumbnails.prime(task.getId(),
+                            task.getThumbnails());
+                    return taskMapper.toSummaryDto(task);
+                })
+                .toList();
+    }
+
+    private Map<Long, Task> byId(final List<Task> tasks) {
+        Map<Long, Task> byId = new HashMap<>();
+        tasks.forEach(task -> byId.put(task.getId(), task));
+        return byId;
+    }
+}
@@ -1,32 +1,57 @@
 package org.example.tasklist.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskBulk;
+import org.example.tasklist.domain.task.TaskBulkResult;
+import org.example.tasklist.domain.task.TaskFormat;
+import org.example.tasklist.domain.task.TaskPage;
+import org.example.tasklist.domain.task.TaskSearch;
 import org.example.tasklist.domain.user.User;
 import org.example.tasklist.service.TaskService;
+import org.example.tasklist.service.TaskTransferService;
 import org.example.tasklist.service.UserService;
+import org.example.tasklist.web.dto.task.TaskBulkDto;
+import org.example.tasklist.web.dto.task.TaskBulkResultDto;
 import org.example.tasklist.web.dto.task.TaskDto;
+import org.example.tasklist.web.dto.task.TaskImportResultDto;
+import org.example.tasklist.web.dto.task.TaskPageDto;
+import org.example.tasklist.web.dto.task.TaskSearchDto;
 import org.example.tasklist.web.dto.user.UserDto;
 import org.example.tasklist.web.dto.validation.OnCreate;
 import org.example.tasklist.web.dto.validation.OnUpdate;
+import org.example.tasklist.web.mappers.TaskBulkMapper;
+import org.example.tasklist.web.mappers.TaskBulkResultMapper;
 import org.example.tasklist.web.mappers.TaskMapper;
+import org.example.tasklist.web.mappers.TaskSearchMapper;
 import org.example.tasklist.web.mappers.UserMapper;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -38,8 +63,13 @@ public class UserController {
 
     private final UserService userService;
     private final TaskService taskService;
+    private final TaskTransferService taskTransferService;
     private final UserMapper userMapper;
     private final TaskMapper taskMapper;
+    private final TaskBulkMapper taskBulkMapper;
+    private final TaskBulkResultMapper taskBulkResultMapper;
+    private final TaskSearchMapper taskSearchMapper;
+    private final ObjectMapper objectMapper;
 
     @PutMapping
     @MutationMapping(name = "updateUser")
@@ -70,7 +100,6 @@ public class UserController {
     }
 
     @GetMapping("/{id}/tasks")
-    @QueryMapping(name = "tasksByUserId")
     @Operation(summary = "Get all user tasks")
     @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
     public List<TaskDto> getTasksByUserId(
@@ -79,6 +108,84 @@ public class UserController {
         return taskMapper.toDto(tasks);
     }
 
+    @GetMapping("/{id}/tasks/page")
+    @Operation(summary = "Get page of user tasks after cursor")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public TaskPageDto getTaskPageByUserId(
+            @PathVariable @Argument final Long id,
+            @RequestParam(required = false) @Argument final Long after,
+            @RequestParam(required = false) @Argument final Integer size) {
+        TaskPage page = taskService.getPageByUserId(id, after, size);
+        return new TaskPageDto(taskMapper.toDto(page.getTasks()),
+                page.getNextCursor());
+    }
+
+    @GetMapping("/{id}/tasks/search")
+    @Operation(summary = "Search user tasks by text, status and expiration")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public TaskPageDto searchTasks(
+            @PathVariable final Long id,
+            @Validated @ModelAttribute final TaskSearchDto searchDto,
+            @RequestParam(required = false) final Long after,
+            @RequestParam(required = false) final Integer size) {
+        TaskSearch search = taskSearchMapper.toEntity(searchDto);
+        TaskPage page = taskService.search(id, search, after, size);
+        return new TaskPageDto(taskMapper.toDto(page.getTasks()),
+                page.getNextCursor());
+    }
+
+    @GetMapping(value = "/{id}/tasks",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all user tasks as NDJSON")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public void streamTasksByUserId(
+            @PathVariable final Long id,
+            final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream outputStream = response.getOutputStream();
+        taskService.streamAllByUserId(id, task ->
+                writeLine(outputStream, taskMapper.toDto(task)));
+    }
+
+    @GetMapping("/{id}/tasks/export")
+    @Operation(summary = "Export all user tasks as CSV or NDJSON")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public void exportTasks(
+            @PathVariable final Long id,
+            @RequestParam(defaultValue = "CSV") final TaskFormat format,
+            final HttpServletResponse response) throws IOException {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tasks." + format.getExtension())
+                .build();
+        response.setContentType(format.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                disposition.toString());
+        taskTransferService.exportTasks(id, format,
+                response.getOutputStream());
+    }
+
+    @PostMapping("/{id}/tasks/import")
+    @Operation(summary = "Import user tasks from CSV or NDJSON")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public TaskImportResultDto importTasks(
+            @PathVariable final Long id,
+            @RequestParam(defaultValue = "CSV") final TaskFormat format,
+            final HttpServletRequest request) throws IOException {
+        long imported = taskTransferService.importTasks(id, format,
+                request.getInputStream());
+        return new TaskImportResultDto(imported);
+    }
+
+    private void writeLine(final OutputStream outputStream,
+                           final Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PostMapping("/{id}/tasks")
     @MutationMapping(name = "createTask")
     @Operation(summary = "Add task to user")
@@ -90,4 +197,16 @@ public class UserController {
         Task task = taskService.create(taskMapper.toEntity(dto), id);
         return taskMapper.toDto(task);
     }
+
+    @PostMapping("/{id}/tasks/bulk")
+    @MutationMapping(name = "bulkTasks")
+    @Operation(summary = "Create, update and delete user tasks in bulk")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public List<TaskBulkResultDto> bulkTasks(
+            @PathVariable @Argument final Long id,
+            @Validated @RequestBody @Argument final TaskBulkDto dto) {
+        TaskBulk bulk = taskBulkMapper.toEntity(dto);
+        List<TaskBulkResult> results = taskService.bulk(bulk, id);
+        return taskBulkResultMapper.toDto(results);
+    }
 }
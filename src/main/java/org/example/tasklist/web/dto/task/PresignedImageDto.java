@@ -0,0 +1,10 @@
+package org.example.tasklist.web.dto.task;
+
+import lombok.Data;
+
+@Data
+public class PresignedImageDto {
+
+    private String image;
+    private String url;
+}
@@ -0,0 +1,25 @@
+package org.example.tasklist.web.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+import lombok.Data;
+import org.example.tasklist.web.dto.validation.OnCreate;
+import org.example.tasklist.web.dto.validation.OnUpdate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TaskBulkDto {
+
+    private List<@Valid @ConvertGroup(from = Default.class,
+            to = OnCreate.class) TaskDto> create = new ArrayList<>();
+
+    private List<@Valid @ConvertGroup(from = Default.class,
+            to = OnUpdate.class) TaskDto> update = new ArrayList<>();
+
+    private List<@NotNull(message = "Id must be not null") Long> delete =
+            new ArrayList<>();
+}
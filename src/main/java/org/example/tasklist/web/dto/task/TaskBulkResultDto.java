@@ -0,0 +1,14 @@
+package org.example.tasklist.web.dto.task;
+
+import lombok.Data;
+import org.example.tasklist.domain.task.TaskBulkOperation;
+
+@Data
+public class TaskBulkResultDto {
+
+    private TaskBulkOperation operation;
+    private int index;
+    private Long id;
+    private boolean success;
+    private String message;
+}
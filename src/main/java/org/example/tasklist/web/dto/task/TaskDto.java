@@ -36,4 +36,7 @@ public class TaskDto {
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private List<String> images;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<String> thumbnails;
 }
@@ -0,0 +1,11 @@
+package org.example.tasklist.web.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class TaskImageConfirmDto {
+
+    @NotNull(message = "Image must be not null")
+    private String image;
+}
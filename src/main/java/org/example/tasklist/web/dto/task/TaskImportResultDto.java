@@ -0,0 +1,10 @@
+package org.example.tasklist.web.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskImportResultDto {
+    private long imported;
+}
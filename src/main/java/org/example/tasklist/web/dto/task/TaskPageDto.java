@@ -0,0 +1,13 @@
+package org.example.tasklist.web.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> items;
+    private Long nextCursor;
+}
@@ -0,0 +1,23 @@
+package org.example.tasklist.web.dto.task;
+
+import lombok.Data;
+import org.example.tasklist.domain.task.Status;
+import org.hibernate.validator.constraints.Length;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TaskSearchDto {
+
+    @Length(max = 255, message = "Query must be smaller than 255 symbols")
+    private String query;
+
+    private Status status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
@@ -0,0 +1,11 @@
+package org.example.tasklist.web.mappers;
+
+import org.example.tasklist.domain.task.PresignedImage;
+import org.example.tasklist.web.dto.task.PresignedImageDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface PresignedImageMapper
+        extends Mappable<PresignedImage, PresignedImageDto> {
+
+}
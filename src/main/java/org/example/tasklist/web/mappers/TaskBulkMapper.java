@@ -0,0 +1,10 @@
+package org.example.tasklist.web.mappers;
+
+import org.example.tasklist.domain.task.TaskBulk;
+import org.example.tasklist.web.dto.task.TaskBulkDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", uses = TaskMapper.class)
+public interface TaskBulkMapper extends Mappable<TaskBulk, TaskBulkDto> {
+
+}
@@ -0,0 +1,11 @@
+package org.example.tasklist.web.mappers;
+
+import org.example.tasklist.domain.task.TaskBulkResult;
+import org.example.tasklist.web.dto.task.TaskBulkResultDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface TaskBulkResultMapper
+        extends Mappable<TaskBulkResult, TaskBulkResultDto> {
+
+}
@@ -3,9 +3,15 @@ package org.example.tasklist.web.mappers;
 import org.example.tasklist.domain.task.Task;
 import org.example.tasklist.web.dto.task.TaskDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 
 @Mapper(componentModel = "spring")
 public interface TaskMapper extends Mappable<Task, TaskDto> {
 
+    @Named("summary")
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "thumbnails", ignore = true)
+    TaskDto toSummaryDto(Task entity);
 }
@@ -0,0 +1,10 @@
+package org.example.tasklist.web.mappers;
+
+import org.example.tasklist.domain.task.TaskSearch;
+import org.example.tasklist.web.dto.task.TaskSearchDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface TaskSearchMapper extends Mappable<TaskSearch, TaskSearchDto> {
+
+}
@@ -21,6 +21,20 @@ public class JwtEntityFactory {
         );
     }
 
+    public static JwtEntity create(final Long id,
+                                   final String username,
+                                   final List<String> roles) {
+        return new JwtEntity(
+                id,
+                username,
+                null,
+                null,
+                roles.stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList())
+        );
+    }
+
     private static List<GrantedAuthority> mapToGrantedAuthorities(
             final List<Role> roles) {
         return roles.stream()
@@ -1,8 +1,11 @@
 package org.example.tasklist.web.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -19,26 +22,47 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String ISSUED_AT_MILLIS = "iatMillis";
+
     private final JwtProperties jwtProperties;
     private final UserService userService;
     private final UserDetailsService userDetailsService;
+    private final TokenDenyList tokenDenyList;
+    private final RefreshTokenStore refreshTokenStore;
     private Key key;
+    private JwtParser parser;
+    private Cache<String, Claims> tokenCache;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        if (jwtProperties.getCacheSize() > 0) {
+            this.tokenCache = Caffeine.newBuilder()
+                    .maximumSize(jwtProperties.getCacheSize())
+                    .expireAfter(new TokenExpiry(jwtProperties.getCacheTtl()))
+                    .build();
+        }
     }
 
     public String createAccessToken(
@@ -48,10 +72,13 @@ public class JwtTokenProvider {
         Claims claims = Jwts.claims().setSubject(username);
         claims.put("id", userId);
         claims.put("roles", resolveRoles(roles));
-        Instant validity = Instant.now()
+        Instant now = Instant.now();
+        claims.put(ISSUED_AT_MILLIS, now.toEpochMilli());
+        Instant validity = now
                 .plus(jwtProperties.getAccess(), ChronoUnit.HOURS);
         return Jwts.builder()
                 .setClaims(claims)
+                .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(validity))
                 .signWith(key)
                 .compact();
@@ -65,71 +92,154 @@ public class JwtTokenProvider {
 
     public String createRefreshToken(final Long userId,
                                      final String username) {
+        String tokenId = UUID.randomUUID().toString();
+        String familyId = refreshTokenStore.start(userId, tokenId);
+        return createRefreshToken(userId, username, familyId, tokenId);
+    }
+
+    private String createRefreshToken(final Long userId,
+                                      final String username,
+                                      final String familyId,
+                                      final String tokenId) {
         Claims claims = Jwts.claims().setSubject(username);
         claims.put("id", userId);
-        Instant validity = Instant.now()
+        claims.put("fid", familyId);
+        Instant now = Instant.now();
+        Instant validity = now
                 .plus(jwtProperties.getRefresh(), ChronoUnit.DAYS);
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId)
+                .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(validity))
                 .signWith(key)
                 .compact();
     }
 
     public JwtResponse refreshUserTokens(final String refreshToken) {
-        JwtResponse jwtResponse = new JwtResponse();
-        if (validateToken(refreshToken)) {
+        Claims claims = verify(refreshToken);
+        if (claims.getExpiration().before(new Date())) {
+            throw new AccessDeniedException();
+        }
+        String familyId = claims.get("fid", String.class);
+        if (familyId == null || claims.getId() == null) {
+            throw new AccessDeniedException();
+        }
+        Long userId = ((Number) claims.get("id")).longValue();
+        String tokenId = UUID.randomUUID().toString();
+        if (refreshTokenStore.rotate(userId, familyId, claims.getId(),
+                tokenId) != RefreshTokenStore.Rotation.ROTATED) {
             throw new AccessDeniedException();
         }
-        Long userId = Long.valueOf(getId(refreshToken));
         User user = userService.getById(userId);
+        JwtResponse jwtResponse = new JwtResponse();
         jwtResponse.setId(userId);
         jwtResponse.setUsername(user.getUsername());
         jwtResponse.setAccessToken(
                 createAccessToken(userId,
                 user.getUsername(),
                 user.getRoles()));
-        jwtResponse.setRefreshToken(
-                createRefreshToken(userId, user.getUsername()));
+        jwtResponse.setRefreshToken(createRefreshToken(userId,
+                user.getUsername(), familyId, tokenId));
         return jwtResponse;
     }
 
     public boolean validateToken(final String token) {
-        Jws<Claims> claims = Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-        return !claims.getBody().getExpiration().before(new Date());
+        Claims claims = parse(token);
+        return !claims.getExpiration().before(new Date());
     }
 
-    private String getId(final String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("id")
-                .toString();
+    public Authentication getAuthentication(final String token) {
+        Claims claims = parse(token);
+        Long userId = ((Number) claims.get("id")).longValue();
+        if (tokenDenyList.isRevoked(userId, issuedAt(claims))) {
+            return null;
+        }
+        UserDetails userDetails = loadUserDetails(userId, claims);
+        if (userDetails == null) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(
+                userDetails, "", userDetails.getAuthorities());
     }
 
-    private String getUsername(final String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    private Date issuedAt(final Claims claims) {
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Number.class);
+        if (issuedAtMillis == null) {
+            return claims.getIssuedAt();
+        }
+        return new Date(issuedAtMillis.longValue());
     }
 
-    public Authentication getAuthentication(final String token) {
-        String username = getUsername(token);
-        UserDetails userDetails
-                = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(
-                userDetails, "", userDetails.getAuthorities());
+    @SuppressWarnings("unchecked")
+    private UserDetails loadUserDetails(final Long userId,
+                                        final Claims claims) {
+        if (!jwtProperties.isStateless()) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        List<String> roles = claims.get("roles", List.class);
+        if (roles == null) {
+            return null;
+        }
+        return JwtEntityFactory.create(userId, claims.getSubject(), roles);
+    }
+
+    private Claims parse(final String token) {
+        if (tokenCache == null) {
+            return verify(token);
+        }
+        return tokenCache.get(digest(token), hash -> verify(token));
+    }
+
+    private Claims verify(final String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private String digest(final String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(
+                    token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
+    @RequiredArgsConstructor
+    private static final class TokenExpiry
+            implements Expiry<String, Claims> {
+
+        private final Duration maxTtl;
+
+        @Override
+        public long expireAfterCreate(final String key,
+                                      final Claims value,
+                                      final long currentTime) {
+            Duration untilExpiration = Duration.between(Instant.now(),
+                    value.getExpiration().toInstant());
+            if (untilExpiration.isNegative()) {
+                return 0;
+            }
+            if (untilExpiration.compareTo(maxTtl) > 0) {
+                return maxTtl.toNanos();
+            }
+            return untilExpiration.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key,
+                                      final Claims value,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key,
+                                    final Claims value,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
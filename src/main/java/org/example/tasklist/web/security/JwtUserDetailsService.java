@@ -4,12 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.example.tasklist.domain.user.User;
 import org.example.tasklist.service.UserService;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class JwtUserDetailsService implements UserDetailsService {
+public class JwtUserDetailsService implements UserDetailsService,
+        UserDetailsPasswordService {
     private final UserService userService;
 
     @Override
@@ -17,4 +19,16 @@ public class JwtUserDetailsService implements UserDetailsService {
         User user = userService.getByUsername(username);
         return JwtEntityFactory.create(user);
     }
+
+    @Override
+    public UserDetails updatePassword(final UserDetails user,
+                                      final String newPassword) {
+        JwtEntity entity = (JwtEntity) user;
+        userService.updatePassword(entity.getId(), newPassword);
+        return new JwtEntity(entity.getId(),
+                entity.getUsername(),
+                entity.getName(),
+                newPassword,
+                entity.getAuthorities());
+    }
 }
@@ -0,0 +1,166 @@
+package org.example.tasklist.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.service.props.JwtProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String PREFIX = "refresh:{";
+    private static final String FAMILIES = "families";
+
+    private static final RedisScript<Long> START = RedisScript.of("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[5], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ROTATE = RedisScript.of("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[5])
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                redis.call('ZREM', KEYS[2], ARGV[3])
+                return 0
+            end
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('ZREM', KEYS[2], ARGV[3])
+                return -1
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+            redis.call('ZADD', KEYS[2], ARGV[6], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REVOKE = RedisScript.of("""
+            for i = 2, #KEYS do
+                redis.call('DEL', KEYS[i])
+            end
+            for _, family in ipairs(ARGV) do
+                redis.call('ZREM', KEYS[1], family)
+            end
+            return #ARGV
+            """, Long.class);
+
+    private final JwtProperties jwtProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<String, Boolean> revokedFamilies;
+    private Map<Rotation, Counter> counters;
+
+    @PostConstruct
+    public void init() {
+        this.revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshCacheSize())
+                .expireAfterWrite(lifetime())
+                .build();
+        this.counters = new EnumMap<>(Rotation.class);
+        for (Rotation rotation : Rotation.values()) {
+            counters.put(rotation, Counter.builder("auth.refresh.rotations")
+                    .tag("result", rotation.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public String start(final Long userId, final String tokenId) {
+        String familyId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(START,
+                List.of(familyKey(userId, familyId), userKey(userId)),
+                tokenId,
+                familyId,
+                String.valueOf(lifetime().toMillis()),
+                String.valueOf(now),
+                String.valueOf(now + lifetime().toMillis()));
+        return familyId;
+    }
+
+    public Rotation rotate(final Long userId,
+                           final String familyId,
+                           final String tokenId,
+                           final String nextTokenId) {
+        String familyKey = familyKey(userId, familyId);
+        Rotation rotation;
+        if (revokedFamilies.getIfPresent(familyKey) != null) {
+            rotation = Rotation.REVOKED;
+        } else {
+            long now = System.currentTimeMillis();
+            Long result = redisTemplate.execute(ROTATE,
+                    List.of(familyKey, userKey(userId)),
+                    tokenId,
+                    nextTokenId,
+                    familyId,
+                    String.valueOf(lifetime().toMillis()),
+                    String.valueOf(now),
+                    String.valueOf(now + lifetime().toMillis()));
+            rotation = toRotation(result);
+            if (rotation != Rotation.ROTATED) {
+                revokedFamilies.put(familyKey, Boolean.TRUE);
+            }
+        }
+        counters.get(rotation).increment();
+        return rotation;
+    }
+
+    public void revokeUser(final Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Set<String> families = redisTemplate.opsForZSet()
+                .range(userKey(userId), 0, -1);
+        if (families == null || families.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(families.size() + 1);
+        keys.add(userKey(userId));
+        for (String familyId : families) {
+            keys.add(familyKey(userId, familyId));
+        }
+        redisTemplate.execute(REVOKE, keys, families.toArray());
+    }
+
+    private Rotation toRotation(final Long result) {
+        if (result == null || result == 0) {
+            return Rotation.REVOKED;
+        }
+        return result > 0 ? Rotation.ROTATED : Rotation.REUSED;
+    }
+
+    private Duration lifetime() {
+        return Duration.ofDays(jwtProperties.getRefresh());
+    }
+
+    private String userKey(final Long userId) {
+        return familyKey(userId, FAMILIES);
+    }
+
+    private String familyKey(final Long userId, final String familyId) {
+        return PREFIX + userId + "}:" + familyId;
+    }
+
+    public enum Rotation {
+        ROTATED, REUSED, REVOKED
+    }
+}
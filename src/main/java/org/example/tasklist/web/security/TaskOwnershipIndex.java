@@ -0,0 +1,127 @@
+package org.example.tasklist.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.config.TransactionCallbacks;
+import org.example.tasklist.repository.UserRepository;
+import org.example.tasklist.service.props.TaskProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class TaskOwnershipIndex {
+
+    private static final String SEPARATOR = "|";
+
+    private final UserRepository userRepository;
+    private final TaskProperties taskProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Function<Long, long[]> loader = this::load;
+    private Cache<Long, long[]> taskIds;
+
+    @PostConstruct
+    public void init() {
+        this.taskIds = Caffeine.newBuilder()
+                .maximumSize(taskProperties.getOwnershipIndexSize())
+                .expireAfterWrite(taskProperties.getOwnershipIndexTtl())
+                .build();
+        listenerContainer.addMessageListener((message, pattern) ->
+                        onInvalidation(new String(message.getBody(),
+                                StandardCharsets.UTF_8)),
+                new ChannelTopic(taskProperties.getOwnershipChannel()));
+    }
+
+    public boolean isOwner(final Long userId, final Long taskId) {
+        if (userId == null || taskId == null) {
+            return false;
+        }
+        long[] ids = taskIds.get(userId, loader);
+        return Arrays.binarySearch(ids, taskId) >= 0;
+    }
+
+    public void addTask(final Long userId, final Long taskId) {
+        TransactionCallbacks.afterCommit(() -> {
+            taskIds.asMap().computeIfPresent(userId,
+                    (key, ids) -> insert(ids, taskId));
+            publish(userId);
+        });
+    }
+
+    public void removeTask(final Long userId, final Long taskId) {
+        TransactionCallbacks.afterCommit(() -> {
+            taskIds.asMap().computeIfPresent(userId,
+                    (key, ids) -> remove(ids, taskId));
+            publish(userId);
+        });
+    }
+
+    public void removeUser(final Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            taskIds.invalidate(userId);
+            publish(userId);
+        });
+    }
+
+    void onInvalidation(final String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        taskIds.invalidate(Long.valueOf(parts[1]));
+    }
+
+    private long[] load(final Long userId) {
+        List<Long> ids = userRepository.findTaskIds(userId);
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private long[] insert(final long[] ids, final long taskId) {
+        int index = Arrays.binarySearch(ids, taskId);
+        if (index >= 0) {
+            return ids;
+        }
+        int position = -index - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        result[position] = taskId;
+        System.arraycopy(ids, position, result, position + 1,
+                ids.length - position);
+        return result;
+    }
+
+    private long[] remove(final long[] ids, final long taskId) {
+        int index = Arrays.binarySearch(ids, taskId);
+        if (index < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index,
+                ids.length - index - 1);
+        return result;
+    }
+
+    private void publish(final Long userId) {
+        redisTemplate.convertAndSend(taskProperties.getOwnershipChannel(),
+                nodeId + SEPARATOR + userId);
+    }
+}
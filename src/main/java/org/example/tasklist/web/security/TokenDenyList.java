@@ -0,0 +1,76 @@
+package org.example.tasklist.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.tasklist.service.props.JwtProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class TokenDenyList {
+
+    private static final String SEPARATOR = "|";
+
+    private final JwtProperties jwtProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private Cache<Long, Instant> revocations;
+
+    @PostConstruct
+    public void init() {
+        this.revocations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(jwtProperties.getAccess()))
+                .build();
+        listenerContainer.addMessageListener((message, pattern) ->
+                        onRevocation(new String(message.getBody(),
+                                StandardCharsets.UTF_8)),
+                new ChannelTopic(jwtProperties.getRevocationChannel()));
+    }
+
+    public void revokeUser(final Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        revoke(userId, revokedAt);
+        redisTemplate.convertAndSend(jwtProperties.getRevocationChannel(),
+                nodeId + SEPARATOR + userId
+                        + SEPARATOR + revokedAt.toEpochMilli());
+    }
+
+    public boolean isRevoked(final Long userId, final Date issuedAt) {
+        Instant revokedAt = revocations.getIfPresent(userId);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.toInstant().isAfter(revokedAt);
+    }
+
+    void onRevocation(final String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        revoke(Long.valueOf(parts[1]),
+                Instant.ofEpochMilli(Long.parseLong(parts[2])));
+    }
+
+    private void revoke(final Long userId, final Instant revokedAt) {
+        revocations.asMap().merge(userId, revokedAt,
+                (current, next) -> next.isAfter(current) ? next : current);
+    }
+}
@@ -0,0 +1,14 @@
+create table if not exists mail_outbox
+(
+    id              bigserial primary key,
+    type            varchar(255) not null,
+    recipient       varchar(255) not null,
+    name            varchar(255) null,
+    params          text         null,
+    attempts        int          not null default 0,
+    created_at      timestamp    not null default now(),
+    next_attempt_at timestamp    not null default now()
+    );
+
+create index if not exists idx_mail_outbox_next_attempt_at
+    on mail_outbox (next_attempt_at);
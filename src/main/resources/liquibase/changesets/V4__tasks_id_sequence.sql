@@ -0,0 +1 @@
+alter sequence tasks_id_seq increment by 50;
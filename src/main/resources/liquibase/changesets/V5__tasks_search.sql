@@ -0,0 +1,9 @@
+alter table tasks
+    add column if not exists search_vector tsvector
+        generated always as (
+            to_tsvector('simple', coalesce(title, '') || ' '
+                || coalesce(description, ''))
+        ) stored;
+
+create index if not exists idx_tasks_search_vector
+    on tasks using gin (search_vector);
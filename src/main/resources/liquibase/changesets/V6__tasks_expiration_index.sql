@@ -0,0 +1,3 @@
+create index if not exists idx_tasks_expiration_date
+    on tasks (expiration_date)
+    where expiration_date is not null and status <> 'DONE';
@@ -0,0 +1,17 @@
+create table if not exists reminder_nodes
+(
+    node_id      varchar(64) primary key,
+    heartbeat_at timestamp   not null default now()
+    );
+
+create table if not exists reminders_sent
+(
+    task_id         bigint    not null,
+    expiration_date timestamp not null,
+    sent_at         timestamp not null default now(),
+    primary key (task_id, expiration_date),
+    constraint fk_reminders_sent_tasks foreign key (task_id) references tasks (id) on delete cascade on update no action
+    );
+
+create index if not exists idx_reminders_sent_sent_at
+    on reminders_sent (sent_at);
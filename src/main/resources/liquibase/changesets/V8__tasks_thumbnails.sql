@@ -0,0 +1,7 @@
+create table if not exists tasks_thumbnails
+(
+    task_id   bigint       not null,
+    thumbnail varchar(255) not null,
+    primary key (task_id, thumbnail),
+    constraint fk_tasks_thumbnails_tasks foreign key (task_id) references tasks (id) on delete cascade on update no action
+    );
@@ -0,0 +1,111 @@
+package org.example.tasklist.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.config.CacheValueSerializer;
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"jdk", "binary"})
+    private String format;
+
+    @Param({"task", "user"})
+    private String value;
+
+    private RedisSerializer<Object> serializer;
+    private Object object;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        if ("jdk".equals(format)) {
+            serializer = new JdkSerializationRedisSerializer();
+        } else {
+            serializer = new CacheValueSerializer(
+                    getClass().getClassLoader());
+        }
+        if ("task".equals(value)) {
+            object = task();
+        } else {
+            object = user();
+        }
+        bytes = serializer.serialize(object);
+        log.info("{} {} payload: {} bytes", format, value, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(object);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(bytes);
+    }
+
+    private Task task() {
+        Task task = new Task();
+        task.setId(42L);
+        task.setTitle("Prepare release notes");
+        task.setDescription("Collect merged changes and write release notes");
+        task.setStatus(Status.IN_PROGRESS);
+        task.setExpirationDate(LocalDateTime.now());
+        List<String> images = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            images.add("tasks/42/1b4e28ba-2fa1-11d2-883f-0016d3cca42" + i
+                    + ".png");
+        }
+        task.setImages(images);
+        return task;
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setName("John Doe");
+        user.setUsername("johndoe@gmail.com");
+        user.setPassword(
+                "$2a$10$5B8gD9YB0lV2yCqOyJmC5u8jK9zQxW9VpB6lM6q7yZ1z0sRbQ2e3K");
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_ADMIN));
+        return user;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheValueSerializerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.tasklist.benchmark;
+
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import org.example.tasklist.config.MinioMultipartClient;
+import org.example.tasklist.domain.task.TaskImage;
+import org.example.tasklist.service.impl.ImageServiceImpl;
+import org.example.tasklist.service.props.MinioProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ImageUploadBenchmark {
+
+    @Param({"1", "16", "128"})
+    private int sizeMegabytes;
+
+    @Param({"64", "1024"})
+    private int parallelThresholdMegabytes;
+
+    private ImageServiceImpl imageService;
+    private TaskImage image;
+
+    @Setup
+    public void setUp() {
+        MinioProperties properties = new MinioProperties();
+        properties.setUrl(System.getProperty("minio.url",
+                "http://localhost:9000"));
+        properties.setAccessKey(System.getProperty("minio.access-key",
+                "minioadmin"));
+        properties.setSecretKey(System.getProperty("minio.secret-key",
+                "minioadmin"));
+        properties.setBucket("benchmark");
+        properties.setParallelThreshold(
+                DataSize.ofMegabytes(parallelThresholdMegabytes));
+        MinioClient minioClient = MinioClient.builder()
+                .endpoint(properties.getUrl())
+                .credentials(properties.getAccessKey(),
+                        properties.getSecretKey())
+                .build();
+        MinioMultipartClient multipartClient = new MinioMultipartClient(
+                MinioAsyncClient.builder()
+                        .endpoint(properties.getUrl())
+                        .credentials(properties.getAccessKey(),
+                                properties.getSecretKey())
+                        .build());
+        imageService = new ImageServiceImpl(minioClient,
+                multipartClient,
+                properties);
+        imageService.init();
+        byte[] content = new byte[(int) DataSize.ofMegabytes(sizeMegabytes)
+                .toBytes()];
+        image = new TaskImage();
+        image.setFile(new MockMultipartFile("file", "image.png",
+                "image/png", content));
+    }
+
+    @TearDown
+    public void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Benchmark
+    public String upload() {
+        return imageService.upload(image);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ImageUploadBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
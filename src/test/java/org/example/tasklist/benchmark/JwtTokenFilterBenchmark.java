@@ -0,0 +1,107 @@
+package org.example.tasklist.benchmark;
+
+import jakarta.servlet.FilterChain;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.props.JwtProperties;
+import org.example.tasklist.web.security.JwtEntityFactory;
+import org.example.tasklist.web.security.JwtTokenFilter;
+import org.example.tasklist.web.security.JwtTokenProvider;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TokenDenyList;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenFilterBenchmark {
+
+    private static final String SECRET =
+            "dmdqYmhqbmttYmNhamNjZWhxa25hd2puY2xhZWtic3ZlaGtzYmJ1dg==";
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    private JwtTokenFilter filter;
+    private MockHttpServletRequest request;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccess(1L);
+        properties.setRefresh(30L);
+        properties.setCacheSize(cacheSize);
+        properties.setStateless(stateless);
+        User user = new User();
+        user.setId(1L);
+        user.setName("John Doe");
+        user.setUsername("johndoe@gmail.com");
+        user.setPassword("password");
+        user.setRoles(Set.of(Role.ROLE_USER));
+        UserDetailsService userDetailsService =
+                username -> JwtEntityFactory.create(user);
+        TokenDenyList tokenDenyList = new TokenDenyList(properties,
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class));
+        tokenDenyList.init();
+        JwtTokenProvider provider = new JwtTokenProvider(properties,
+                Mockito.mock(UserService.class),
+                userDetailsService,
+                tokenDenyList,
+                Mockito.mock(RefreshTokenStore.class));
+        provider.init();
+        String token = provider.createAccessToken(user.getId(),
+                user.getUsername(),
+                user.getRoles());
+        filter = new JwtTokenFilter(provider);
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filterChain = (servletRequest, servletResponse) -> {
+        };
+    }
+
+    @Benchmark
+    public void doFilter() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        SecurityContextHolder.clearContext();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenFilterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
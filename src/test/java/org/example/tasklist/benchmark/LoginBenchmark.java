@@ -0,0 +1,130 @@
+package org.example.tasklist.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.impl.AuthServiceImpl;
+import org.example.tasklist.service.props.JwtProperties;
+import org.example.tasklist.service.props.PasswordProperties;
+import org.example.tasklist.web.dto.auth.JwtRequest;
+import org.example.tasklist.web.dto.auth.JwtResponse;
+import org.example.tasklist.web.security.BoundedPasswordEncoder;
+import org.example.tasklist.web.security.JwtEntityFactory;
+import org.example.tasklist.web.security.JwtTokenProvider;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TokenDenyList;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(Threads.MAX)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String SECRET =
+            "dmdqYmhqbmttYmNhamNjZWhxa25hd2puY2xhZWtic3ZlaGtzYmJ1dg==";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BoundedPasswordEncoder passwordEncoder;
+    private AuthServiceImpl authService;
+    private JwtRequest request;
+
+    @Setup
+    public void setUp() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        log.info("Cores: {}, divide the score by this for logins per core",
+                cores);
+        PasswordProperties passwordProperties = new PasswordProperties();
+        passwordProperties.setStrength(strength);
+        passwordProperties.setPoolSize(cores);
+        passwordProperties.setQueueCapacity(cores * 4);
+        passwordEncoder = new BoundedPasswordEncoder(passwordProperties,
+                new SimpleMeterRegistry());
+        passwordEncoder.init();
+        User user = new User();
+        user.setId(1L);
+        user.setName("John Doe");
+        user.setUsername("johndoe@gmail.com");
+        user.setPassword(passwordEncoder.encode("12345"));
+        user.setRoles(Set.of(Role.ROLE_USER));
+        UserDetailsService userDetailsService =
+                username -> JwtEntityFactory.create(user);
+        DaoAuthenticationProvider authenticationProvider =
+                new DaoAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        UserService userService = Mockito.mock(UserService.class);
+        Mockito.when(userService.getByUsername(user.getUsername()))
+                .thenReturn(user);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccess(1L);
+        jwtProperties.setRefresh(30L);
+        TokenDenyList tokenDenyList = new TokenDenyList(jwtProperties,
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class));
+        tokenDenyList.init();
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(jwtProperties,
+                userService,
+                userDetailsService,
+                tokenDenyList,
+                Mockito.mock(RefreshTokenStore.class));
+        tokenProvider.init();
+        authService = new AuthServiceImpl(
+                new ProviderManager(authenticationProvider),
+                userService,
+                tokenProvider);
+        request = new JwtRequest();
+        request.setUsername(user.getUsername());
+        request.setPassword("12345");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public JwtResponse login() {
+        return authService.login(request);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoginBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
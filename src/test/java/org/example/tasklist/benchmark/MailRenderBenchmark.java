@@ -0,0 +1,71 @@
+package org.example.tasklist.benchmark;
+
+import freemarker.template.Configuration;
+import jakarta.mail.internet.MimeMessage;
+import org.example.tasklist.domain.MailType;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.impl.MailServiceImpl;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MailRenderBenchmark {
+
+    @Param({"REGISTRATION", "REMINDER"})
+    private MailType type;
+
+    private MailServiceImpl mailService;
+    private User user;
+    private Properties params;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration =
+                new Configuration(Configuration.VERSION_2_3_31);
+        configuration.setClassForTemplateLoading(getClass(), "/templates/");
+        mailService = new MailServiceImpl(configuration,
+                new JavaMailSenderImpl(),
+                new ReminderProperties());
+        mailService.init();
+        user = new User();
+        user.setName("John Doe");
+        user.setUsername("johndoe@gmail.com");
+        params = new Properties();
+        params.setProperty("task.title", "Call Mike");
+        params.setProperty("task.description", "Discuss the release plan");
+    }
+
+    @Benchmark
+    public MimeMessage render() {
+        return mailService.createEmail(user, type, params);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MailRenderBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
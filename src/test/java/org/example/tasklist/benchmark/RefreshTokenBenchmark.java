@@ -0,0 +1,148 @@
+package org.example.tasklist.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.props.JwtProperties;
+import org.example.tasklist.web.security.JwtEntityFactory;
+import org.example.tasklist.web.security.JwtTokenProvider;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TokenDenyList;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class RefreshTokenBenchmark {
+
+    private static final String SECRET =
+            "dmdqYmhqbmttYmNhamNjZWhxa25hd2puY2xhZWtic3ZlaGtzYmJ1dg==";
+    private static final long SESSIONS = 100_000;
+    private static final long FIRST_USER_ID = 1_000_000_000L;
+
+    private final AtomicLong userIds = new AtomicLong(FIRST_USER_ID);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+    private JwtTokenProvider tokenProvider;
+
+    @Setup
+    public void setUp() {
+        RedisStandaloneConfiguration configuration =
+                new RedisStandaloneConfiguration(
+                        System.getProperty("redis.host", "localhost"),
+                        Integer.getInteger("redis.port", 6379));
+        configuration.setPassword(System.getProperty("redis.password", ""));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccess(1L);
+        properties.setRefresh(30L);
+        refreshTokenStore = new RefreshTokenStore(properties,
+                redisTemplate,
+                new SimpleMeterRegistry());
+        refreshTokenStore.init();
+        User user = new User();
+        user.setId(1L);
+        user.setName("John Doe");
+        user.setUsername("johndoe@gmail.com");
+        user.setRoles(Set.of(Role.ROLE_USER));
+        UserService userService = Mockito.mock(UserService.class);
+        Mockito.when(userService.getById(Mockito.anyLong()))
+                .thenReturn(user);
+        TokenDenyList tokenDenyList = new TokenDenyList(properties,
+                redisTemplate,
+                Mockito.mock(RedisMessageListenerContainer.class));
+        tokenDenyList.init();
+        tokenProvider = new JwtTokenProvider(properties,
+                userService,
+                username -> JwtEntityFactory.create(user),
+                tokenDenyList,
+                refreshTokenStore);
+        tokenProvider.init();
+        long before = usedMemory();
+        for (long i = 0; i < SESSIONS; i++) {
+            tokenProvider.createRefreshToken(userIds.getAndIncrement(),
+                    user.getUsername());
+        }
+        long after = usedMemory();
+        log.info("Redis memory per session: {} bytes",
+                (after - before) / SESSIONS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (long id = FIRST_USER_ID; id < userIds.get(); id++) {
+            refreshTokenStore.revokeUser(id);
+        }
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public String refresh(final Session session) {
+        session.token = tokenProvider.refreshUserTokens(session.token)
+                .getRefreshToken();
+        return session.token;
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>)
+                connection -> connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private String token;
+
+        @Setup
+        public void setUp(final RefreshTokenBenchmark benchmark) {
+            token = benchmark.tokenProvider.createRefreshToken(
+                    benchmark.userIds.getAndIncrement(),
+                    "johndoe@gmail.com");
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RefreshTokenBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.tasklist.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.tasklist.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReminderScanBenchmark {
+
+    private static final String SCHEMA = "reminder_benchmark";
+    private static final int USERS = 1000;
+    private static final int TASKS = 5_000_000;
+    private static final int FETCH_SIZE = 500;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("postgres.url",
+                        "jdbc:postgresql://localhost:5432/tasklist")
+                        + "?currentSchema=" + SCHEMA,
+                System.getProperty("postgres.username", "postgres"),
+                System.getProperty("postgres.password", "postgres"));
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(FETCH_SIZE);
+        template.execute("create schema if not exists " + SCHEMA);
+        if (!isPopulated(template)) {
+            populate(template, dataSource);
+        }
+        new ResourceDatabasePopulator(new ClassPathResource(
+                "liquibase/changesets/V7__reminder_nodes.sql"))
+                .execute(dataSource);
+        if (indexed) {
+            new ResourceDatabasePopulator(new ClassPathResource(
+                    "liquibase/changesets/V6__tasks_expiration_index.sql"))
+                    .execute(dataSource);
+        } else {
+            template.execute("drop index if exists idx_tasks_expiration_date");
+        }
+        template.execute("ANALYZE tasks");
+        jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(true);
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN (ANALYZE, BUFFERS) "
+                        + TaskRepository.REMINDER_SCHEDULE_QUERY,
+                window(), String.class);
+        log.info("Reminder scan plan:\n{}", String.join("\n", plan));
+    }
+
+    @Benchmark
+    public long scan() {
+        long[] rows = new long[1];
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(TaskRepository.REMINDER_SCHEDULE_QUERY,
+                        window(),
+                        resultSet -> {
+                            rows[0]++;
+                        }));
+        return rows[0];
+    }
+
+    private MapSqlParameterSource window() {
+        LocalDateTime now = LocalDateTime.now();
+        return new MapSqlParameterSource()
+                .addValue("start", Timestamp.valueOf(now))
+                .addValue("end", Timestamp.valueOf(
+                        now.plus(Duration.ofHours(1))))
+                .addValue("shard", 0)
+                .addValue("shards", 1);
+    }
+
+    private boolean isPopulated(final JdbcTemplate template) {
+        Boolean exists = template.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM information_schema.tables
+                WHERE table_schema = ? AND table_name = 'tasks')
+                """, Boolean.class, SCHEMA);
+        if (!Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        Long count = template.queryForObject("SELECT count(*) FROM tasks",
+                Long.class);
+        return count != null && count == TASKS;
+    }
+
+    private void populate(final JdbcTemplate template,
+                          final DriverManagerDataSource dataSource) {
+        template.execute("drop schema " + SCHEMA + " cascade");
+        template.execute("create schema " + SCHEMA);
+        new ResourceDatabasePopulator(new ClassPathResource(
+                "liquibase/changesets/V1__init.sql"))
+                .execute(dataSource);
+        template.update("""
+                INSERT INTO users (name, username, password)
+                SELECT 'User ' || i, 'user' || i || '@gmail.com', 'x'
+                FROM generate_series(1, ?) i
+                """, USERS);
+        template.update("""
+                INSERT INTO tasks (title, description, status,
+                expiration_date)
+                SELECT 'Task ' || i, 'Description ' || i,
+                (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + i % 3],
+                CASE WHEN i % 4 = 0 THEN NULL
+                ELSE now() + (i % 8760) * interval '1 hour' END
+                FROM generate_series(1, ?) i
+                """, TASKS);
+        template.update("""
+                INSERT INTO users_tasks (user_id, task_id)
+                SELECT 1 + id % ?, id FROM tasks
+                """, USERS);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReminderScanBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
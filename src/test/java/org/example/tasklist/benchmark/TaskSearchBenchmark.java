@@ -0,0 +1,143 @@
+package org.example.tasklist.benchmark;
+
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.TaskSearch;
+import org.example.tasklist.repository.TaskSearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final String SCHEMA = "search_benchmark";
+    private static final int USERS = 1000;
+    private static final int TASKS = 10_000_000;
+    private static final int LIMIT = 50;
+    private static final String[] WORDS = {
+            "report", "meeting", "invoice", "release", "review"
+    };
+
+    @Param({"KEYWORD", "STATUS", "KEYWORD_STATUS_RANGE"})
+    private String scenario;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("postgres.url",
+                        "jdbc:postgresql://localhost:5432/tasklist")
+                        + "?currentSchema=" + SCHEMA,
+                System.getProperty("postgres.username", "postgres"),
+                System.getProperty("postgres.password", "postgres"));
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create schema if not exists " + SCHEMA);
+        if (!isPopulated(template)) {
+            populate(template, dataSource);
+        }
+        jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> search() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TaskSearch search = new TaskSearch();
+        if (!scenario.equals("STATUS")) {
+            search.setQuery(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (!scenario.equals("KEYWORD")) {
+            search.setStatus(Status.TODO);
+        }
+        if (scenario.equals("KEYWORD_STATUS_RANGE")) {
+            LocalDateTime from = LocalDateTime.now()
+                    .plusDays(random.nextInt(300));
+            search.setFrom(from);
+            search.setTo(from.plusDays(30));
+        }
+        TaskSearchQuery query = TaskSearchQuery.of(
+                (long) random.nextInt(1, USERS + 1), search, 0L, LIMIT);
+        return jdbcTemplate.queryForList(query.getSql(),
+                query.getParameters());
+    }
+
+    private boolean isPopulated(final JdbcTemplate template) {
+        Boolean exists = template.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_schema = ? AND table_name = 'tasks'
+                AND column_name = 'search_vector')
+                """, Boolean.class, SCHEMA);
+        if (!Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        Long count = template.queryForObject("SELECT count(*) FROM tasks",
+                Long.class);
+        return count != null && count == TASKS;
+    }
+
+    private void populate(final JdbcTemplate template,
+                          final DriverManagerDataSource dataSource) {
+        template.execute("drop schema " + SCHEMA + " cascade");
+        template.execute("create schema " + SCHEMA);
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("liquibase/changesets/V1__init.sql"),
+                new ClassPathResource(
+                        "liquibase/changesets/V5__tasks_search.sql"));
+        populator.execute(dataSource);
+        template.update("""
+                INSERT INTO users (name, username, password)
+                SELECT 'User ' || i, 'user' || i || '@gmail.com', 'x'
+                FROM generate_series(1, ?) i
+                """, USERS);
+        template.update("""
+                INSERT INTO tasks (title, description, status,
+                expiration_date)
+                SELECT (ARRAY['report', 'meeting', 'invoice', 'release',
+                'review', 'call', 'trip'])[1 + i % 7] || ' ' || i,
+                'Task number ' || i || ' about '
+                || (ARRAY['budget', 'plans', 'clients'])[1 + i % 3],
+                (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + i % 3],
+                now() + (i % 365) * interval '1 day'
+                FROM generate_series(1, ?) i
+                """, TASKS);
+        template.update("""
+                INSERT INTO users_tasks (user_id, task_id)
+                SELECT 1 + id % ?, id FROM tasks
+                """, USERS);
+        template.execute("ANALYZE");
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskSearchBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
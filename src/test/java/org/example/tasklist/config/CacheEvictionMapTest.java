@@ -0,0 +1,69 @@
+package org.example.tasklist.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+public class CacheEvictionMapTest {
+
+    private CacheManager cacheManager;
+    private CacheEvictionMap cacheEvictionMap;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        cacheEvictionMap = new CacheEvictionMap(cacheManager);
+    }
+
+    @Test
+    void evictTask() {
+        put(CacheEvictionMap.TASK_BY_ID, 2L);
+        put(CacheEvictionMap.TASK_AUTHOR, 2L);
+        put(CacheEvictionMap.TASK_BY_ID, 3L);
+        cacheEvictionMap.evictTask(2L);
+        Assertions.assertFalse(contains(CacheEvictionMap.TASK_BY_ID, 2L));
+        Assertions.assertFalse(contains(CacheEvictionMap.TASK_AUTHOR, 2L));
+        Assertions.assertTrue(contains(CacheEvictionMap.TASK_BY_ID, 3L));
+    }
+
+    @Test
+    void evictUser() {
+        put(CacheEvictionMap.USER_BY_ID, 1L);
+        put(CacheEvictionMap.USER_BY_USERNAME, "john@gmail.com");
+        put(CacheEvictionMap.TASK_AUTHOR, 2L);
+        cacheEvictionMap.evictUser(1L, List.of("john@gmail.com"), List.of(2L));
+        Assertions.assertFalse(contains(CacheEvictionMap.USER_BY_ID, 1L));
+        Assertions.assertFalse(contains(CacheEvictionMap.USER_BY_USERNAME,
+                "john@gmail.com"));
+        Assertions.assertFalse(contains(CacheEvictionMap.TASK_AUTHOR, 2L));
+    }
+
+    @Test
+    void evictAfterCommit() {
+        put(CacheEvictionMap.TASK_BY_ID, 2L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cacheEvictionMap.evictTask(2L);
+            Assertions.assertTrue(contains(CacheEvictionMap.TASK_BY_ID, 2L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Assertions.assertFalse(contains(CacheEvictionMap.TASK_BY_ID, 2L));
+    }
+
+    private void put(final String cacheName, final Object key) {
+        cacheManager.getCache(cacheName).put(key, "value");
+    }
+
+    private boolean contains(final String cacheName, final Object key) {
+        return cacheManager.getCache(cacheName).get(key) != null;
+    }
+}
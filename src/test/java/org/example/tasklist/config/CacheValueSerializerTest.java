@@ -0,0 +1,87 @@
+package org.example.tasklist.config;
+
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public class CacheValueSerializerTest {
+
+    private final CacheValueSerializer serializer =
+            new CacheValueSerializer(getClass().getClassLoader());
+
+    @Test
+    void serializeTask() {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Title");
+        task.setDescription("Description");
+        task.setStatus(Status.IN_PROGRESS);
+        task.setExpirationDate(LocalDateTime.of(2024, 1, 1, 12, 30, 15));
+        task.setImages(List.of("image.png", "tasks/1/image.jpg"));
+        task.setThumbnails(List.of("thumbnails/image.png"));
+        Object result = serializer.deserialize(serializer.serialize(task));
+        Assertions.assertEquals(task, result);
+    }
+
+    @Test
+    void serializeTaskWithNullFields() {
+        Task task = new Task();
+        task.setId(1L);
+        Object result = serializer.deserialize(serializer.serialize(task));
+        Assertions.assertEquals(task, result);
+    }
+
+    @Test
+    void serializeUserWithoutTasks() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("John");
+        user.setUsername("johndoe@gmail.com");
+        user.setPassword("password");
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_ADMIN));
+        user.setTasks(List.of(new Task()));
+        User result = (User) serializer.deserialize(
+                serializer.serialize(user));
+        Assertions.assertEquals(user.getId(), result.getId());
+        Assertions.assertEquals(user.getName(), result.getName());
+        Assertions.assertEquals(user.getUsername(), result.getUsername());
+        Assertions.assertEquals(user.getPassword(), result.getPassword());
+        Assertions.assertEquals(user.getRoles(), result.getRoles());
+        Assertions.assertNull(result.getTasks());
+    }
+
+    @Test
+    void serializeBoolean() {
+        Assertions.assertEquals(true,
+                serializer.deserialize(serializer.serialize(true)));
+    }
+
+    @Test
+    void serializeOtherValueWithJava() {
+        Assertions.assertEquals("value",
+                serializer.deserialize(serializer.serialize("value")));
+    }
+
+    @Test
+    void deserializeJavaSerializedValue() {
+        Task task = new Task();
+        task.setId(1L);
+        byte[] bytes = new JdkSerializationRedisSerializer().serialize(task);
+        Assertions.assertEquals(task, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserializeUnknownVersion() {
+        byte[] bytes = serializer.serialize(true);
+        bytes[1] = CacheValueSerializer.VERSION + 1;
+        Assertions.assertNull(serializer.deserialize(bytes));
+    }
+}
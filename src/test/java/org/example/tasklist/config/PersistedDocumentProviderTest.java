@@ -0,0 +1,96 @@
+package org.example.tasklist.config;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.service.props.GraphqlDocumentProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class PersistedDocumentProviderTest {
+
+    private static final String QUERY = "{ taskById(id: 1) { id } }";
+
+    private PersistedDocumentProvider provider;
+    private AtomicInteger parsed;
+    private Function<ExecutionInput, PreparsedDocumentEntry> parse;
+
+    @BeforeEach
+    void setUp() {
+        provider = new PersistedDocumentProvider(
+                new GraphqlDocumentProperties(),
+                new SimpleMeterRegistry());
+        provider.init();
+        parsed = new AtomicInteger();
+        parse = input -> {
+            parsed.incrementAndGet();
+            return new PreparsedDocumentEntry(
+                    Parser.parse(input.getQuery()));
+        };
+    }
+
+    @Test
+    void parsesQueryOnce() {
+        PreparsedDocumentEntry first = provider.getDocument(
+                input(QUERY, null), parse);
+        PreparsedDocumentEntry second = provider.getDocument(
+                input(QUERY, null), parse);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, parsed.get());
+    }
+
+    @Test
+    void registersPersistedQuery() throws Exception {
+        String hash = sha256(QUERY);
+        PreparsedDocumentEntry missing = provider.getDocument(
+                input("", hash), parse);
+        Assertions.assertInstanceOf(PersistedQueryNotFound.class,
+                missing.getErrors().get(0).getErrorType());
+        Assertions.assertNull(provider.getQuery(hash));
+        PreparsedDocumentEntry registered = provider.getDocument(
+                input(QUERY, hash), parse);
+        Assertions.assertFalse(registered.hasErrors());
+        PreparsedDocumentEntry persisted = provider.getDocument(
+                input("", hash), parse);
+        Assertions.assertSame(registered, persisted);
+        Assertions.assertEquals(QUERY, provider.getQuery(hash));
+        Assertions.assertSame(registered, provider.getDocument(
+                input(QUERY, null), parse));
+        Assertions.assertEquals(1, parsed.get());
+    }
+
+    @Test
+    void rejectsHashMismatch() {
+        PreparsedDocumentEntry entry = provider.getDocument(
+                input(QUERY, "0".repeat(64)), parse);
+        Assertions.assertInstanceOf(PersistedQueryIdInvalid.class,
+                entry.getErrors().get(0).getErrorType());
+        Assertions.assertEquals(0, parsed.get());
+    }
+
+    private ExecutionInput input(final String query, final String hash) {
+        ExecutionInput.Builder builder = ExecutionInput.newExecutionInput()
+                .query(query);
+        if (hash != null) {
+            builder.extensions(Map.of("persistedQuery",
+                    Map.of("version", 1, "sha256Hash", hash)));
+        }
+        return builder.build();
+    }
+
+    private String sha256(final String query) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(query.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.tasklist.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletRequest;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.service.TaskService;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.props.GraphqlDocumentProperties;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.controller.TaskGraphqlController;
+import org.example.tasklist.web.mappers.TaskMapperImpl;
+import org.example.tasklist.web.mappers.TaskSearchMapperImpl;
+import org.example.tasklist.web.mappers.UserMapperImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.graphql.GraphQlAutoConfiguration;
+import org.springframework.boot.autoconfigure.graphql.servlet.GraphQlWebMvcAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@WebMvcTest(TaskGraphqlController.class)
+@ImportAutoConfiguration({GraphQlAutoConfiguration.class,
+        GraphQlWebMvcAutoConfiguration.class})
+@Import({GraphqlConfig.class,
+        GraphqlDocumentProperties.class,
+        PersistedDocumentProvider.class,
+        PersistedQueryFilter.class,
+        SimpleMeterRegistry.class,
+        TaskProperties.class,
+        TaskMapperImpl.class,
+        TaskSearchMapperImpl.class,
+        UserMapperImpl.class,
+        PersistedQueryFilterTest.SecurityConfig.class})
+public class PersistedQueryFilterTest {
+
+    private static final String PATH = "/graphql";
+    private static final String QUERY = "{ tasksByUserId(id: 1) { title } }";
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private UserService userService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersistedQueryFilter persistedQueryFilter;
+
+    @Test
+    void executesPersistedQueryByHash() throws Exception {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("title");
+        task.setImages(List.of());
+        Mockito.when(taskService.getAllByUserId(1L))
+                .thenReturn(List.of(task));
+        String hash = sha256(QUERY);
+        String hashOnly = """
+                {"extensions": {"persistedQuery":
+                    {"version": 1, "sha256Hash": "%s"}}}
+                """.formatted(hash);
+        mockMvc.perform(MockMvcRequestBuilders.post(PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(hashOnly))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers
+                        .jsonPath("$.errors[0].message")
+                        .value("PersistedQueryNotFound"))
+                .andExpect(MockMvcResultMatchers
+                        .jsonPath("$.errors[0].extensions.persistedQueryId")
+                        .value(hash));
+        execute("""
+                {"query": "%s", "extensions": {"persistedQuery":
+                    {"version": 1, "sha256Hash": "%s"}}}
+                """.formatted(QUERY, hash));
+        execute(hashOnly);
+        Mockito.verify(taskService, Mockito.times(2)).getAllByUserId(1L);
+    }
+
+    @Test
+    void wrappedRequestSupportsReaderAndReadListener() throws Exception {
+        String body = """
+                {"query": "%s", "extensions": {"persistedQuery":
+                    {"version": 1, "sha256Hash": "%s"}}}
+                """.formatted(QUERY, sha256(QUERY));
+        MockHttpServletRequest request = new MockHttpServletRequest(
+                HttpMethod.POST.name(), PATH);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+        persistedQueryFilter.doFilter(request,
+                new MockHttpServletResponse(), chain);
+        ServletRequest wrapped = chain.getRequest();
+        Assertions.assertEquals(body.strip(), wrapped.getReader().lines()
+                .collect(Collectors.joining("\n")));
+        List<String> events = new ArrayList<>();
+        wrapped.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                events.add("error");
+            }
+        });
+        Assertions.assertEquals(List.of("data", "done"), events);
+    }
+
+    private void execute(final String body) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors")
+                        .doesNotExist())
+                .andExpect(MockMvcResultMatchers
+                        .jsonPath("$.data.tasksByUserId[0].title")
+                        .value("title"));
+    }
+
+    private String sha256(final String query) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(query.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @TestConfiguration
+    static class SecurityConfig {
+
+        @Bean
+        SecurityFilterChain filterChain(final HttpSecurity http)
+                throws Exception {
+            return http.csrf(AbstractHttpConfigurer::disable)
+                    .authorizeHttpRequests(configurer ->
+                            configurer.anyRequest().permitAll())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.tasklist.config;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.service.props.GraphqlCostProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class QueryCostInstrumentationTest {
+
+    private static final String TASK_QUERY = """
+            { taskById(id: 1) { id title author { username } } }
+            """;
+
+    private GraphqlCostProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new GraphqlCostProperties();
+        properties.setWeights(Map.of("Query.taskById", 10,
+                "Task.author", 2));
+        meterRegistry = new SimpleMeterRegistry();
+        QueryCostInstrumentation instrumentation =
+                new QueryCostInstrumentation(properties, meterRegistry);
+        instrumentation.init();
+        graphQL = GraphQL.newGraphQL(schema())
+                .instrumentation(instrumentation)
+                .build();
+        authenticate("mike@gmail.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void measuresQueryCost() {
+        ExecutionResult result = graphQL.execute(TASK_QUERY);
+        Assertions.assertTrue(result.getErrors().isEmpty());
+        Assertions.assertEquals(15, meterRegistry.get("graphql.query.cost")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void multipliesListCostBySize() {
+        ExecutionResult result = graphQL.execute("""
+                { tasksPageByUserId(id: 1, size: 20) { items { id } } }
+                """);
+        Assertions.assertTrue(result.getErrors().isEmpty());
+        Assertions.assertEquals(22, meterRegistry.get("graphql.query.cost")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void rejectsDeepQuery() {
+        properties.setMaxDepth(2);
+        ExecutionResult result = graphQL.execute(TASK_QUERY);
+        assertRejected(result, "depth");
+    }
+
+    @Test
+    void rejectsAliasedQuery() {
+        StringBuilder query = new StringBuilder("{");
+        for (int i = 0; i < 500; i++) {
+            query.append("t").append(i)
+                    .append(": taskById(id: ").append(i)
+                    .append(") { id author { username } } ");
+        }
+        query.append("}");
+        ExecutionResult result = graphQL.execute(query.toString());
+        assertRejected(result, "cost");
+    }
+
+    @Test
+    void rejectsQueriesOverBudget() {
+        properties.setBudget(40);
+        Assertions.assertTrue(graphQL.execute(TASK_QUERY)
+                .getErrors().isEmpty());
+        Assertions.assertTrue(graphQL.execute(TASK_QUERY)
+                .getErrors().isEmpty());
+        assertRejected(graphQL.execute(TASK_QUERY), "budget");
+        authenticate("john@gmail.com");
+        Assertions.assertTrue(graphQL.execute(TASK_QUERY)
+                .getErrors().isEmpty());
+    }
+
+    @Test
+    void ignoresIntrospection() {
+        properties.setMaxDepth(2);
+        ExecutionResult result = graphQL.execute("""
+                { __schema { types { name fields { name type { name
+                ofType { name ofType { name } } } } } } }
+                """);
+        Assertions.assertTrue(result.getErrors().isEmpty());
+    }
+
+    private void assertRejected(final ExecutionResult result,
+                                final String reason) {
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertNull(result.getData());
+        Assertions.assertEquals(1, meterRegistry.get("graphql.query.rejected")
+                .tag("reason", reason)
+                .counter()
+                .count());
+    }
+
+    private void authenticate(final String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(username, null));
+    }
+
+    private GraphQLSchema schema() throws IOException {
+        SchemaParser parser = new SchemaParser();
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        for (String file : new String[]{"graphql/schema.graphqls",
+                "graphql/types.graphqls"}) {
+            try (Reader reader = new InputStreamReader(
+                    new ClassPathResource(file).getInputStream(),
+                    StandardCharsets.UTF_8)) {
+                registry.merge(parser.parse(reader));
+            }
+        }
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .scalar(new GraphqlConfig().localDatetimeScalar())
+                .build();
+        return new SchemaGenerator().makeExecutableSchema(registry, wiring);
+    }
+}
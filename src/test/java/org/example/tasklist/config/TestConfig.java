@@ -1,20 +1,34 @@
 package org.example.tasklist.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.minio.MinioClient;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.tasklist.repository.MailOutboxRepository;
 import org.example.tasklist.repository.TaskRepository;
 import org.example.tasklist.repository.UserRepository;
 import org.example.tasklist.service.ImageService;
+import org.example.tasklist.service.ThumbnailService;
 import org.example.tasklist.service.impl.*;
 import org.example.tasklist.service.props.JwtProperties;
+import org.example.tasklist.service.props.MailOutboxProperties;
 import org.example.tasklist.service.props.MinioProperties;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.example.tasklist.service.props.TaskProperties;
 import org.example.tasklist.web.security.JwtTokenProvider;
 import org.example.tasklist.web.security.JwtUserDetailsService;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
+import org.example.tasklist.web.security.TokenDenyList;
 import freemarker.template.Configuration;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -36,9 +50,18 @@ public class TestConfig {
         jwtProperties.setSecret(
                 "dmdqYmhqbmttYmNhamNjZWhxa25hd2puY2xhZWtic3ZlaGtzYmJ1dg=="
         );
+        jwtProperties.setAccess(1L);
+        jwtProperties.setRefresh(30L);
         return jwtProperties;
     }
 
+    @Bean
+    public TokenDenyList tokenDenyList() {
+        return new TokenDenyList(jwtProperties(),
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class));
+    }
+
     @Bean
     public UserDetailsService userDetailsService(
             final UserRepository userRepository
@@ -46,11 +69,48 @@ public class TestConfig {
         return new JwtUserDetailsService(userService(userRepository));
     }
 
+    @Bean
+    public RefreshTokenStore refreshTokenStore() {
+        return Mockito.mock(RefreshTokenStore.class);
+    }
+
+    @Bean
+    public CacheEvictionMap cacheEvictionMap() {
+        return new CacheEvictionMap(new ConcurrentMapCacheManager());
+    }
+
+    @Bean
+    public TaskOwnershipIndex taskOwnershipIndex(
+            final UserRepository userRepository) {
+        return new TaskOwnershipIndex(userRepository,
+                taskProperties(),
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class));
+    }
+
+    @Bean
+    public ReminderSchedule reminderSchedule() {
+        return new ReminderSchedule(new ReminderProperties(),
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry());
+    }
+
     @Bean
     public MinioClient minioClient() {
         return Mockito.mock(MinioClient.class);
     }
 
+    @Bean
+    public MinioMultipartClient minioMultipartClient() {
+        return Mockito.mock(MinioMultipartClient.class);
+    }
+
+    @Bean
+    public ThumbnailService thumbnailService() {
+        return Mockito.mock(ThumbnailService.class);
+    }
+
     @Bean
     public MinioProperties minioProperties() {
         MinioProperties properties = new MinioProperties();
@@ -58,6 +118,24 @@ public class TestConfig {
         return properties;
     }
 
+    @Bean
+    public TaskProperties taskProperties() {
+        TaskProperties properties = new TaskProperties();
+        properties.setPageSize(2);
+        properties.setMaxPageSize(5);
+        return properties;
+    }
+
+    @Bean
+    public EntityManager entityManager() {
+        return Mockito.mock(EntityManager.class);
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate() {
+        return Mockito.mock(JdbcTemplate.class);
+    }
+
     @Bean
     public Configuration configuration() {
         return Mockito.mock(Configuration.class);
@@ -71,13 +149,32 @@ public class TestConfig {
     @Bean
     @Primary
     public MailServiceImpl mailService() {
-        return new MailServiceImpl(configuration(), mailSender());
+        return new MailServiceImpl(configuration(),
+                mailSender(),
+                new ReminderProperties());
+    }
+
+    @Bean
+    public MailOutboxProperties mailOutboxProperties() {
+        return new MailOutboxProperties();
+    }
+
+    @Bean
+    @Primary
+    public MailOutboxServiceImpl mailOutboxService() {
+        return new MailOutboxServiceImpl(mailOutboxRepository(),
+                mailService(),
+                mailSender(),
+                mailOutboxProperties(),
+                new SimpleMeterRegistry());
     }
 
     @Bean
     @Primary
     public ImageService imageService() {
-        return new ImageServiceImpl(minioClient(), minioProperties());
+        return new ImageServiceImpl(minioClient(),
+                minioMultipartClient(),
+                minioProperties());
     }
 
     @Bean
@@ -85,7 +182,9 @@ public class TestConfig {
             final UserRepository userRepository) {
         return new JwtTokenProvider(jwtProperties(),
                 userService(userRepository),
-                userDetailsService(userRepository)
+                userDetailsService(userRepository),
+                tokenDenyList(),
+                refreshTokenStore()
                 );
     }
 
@@ -95,14 +194,26 @@ public class TestConfig {
         return new UserServiceImpl(
                 userRepository,
                 testPasswordEncoder(),
-                mailService()
+                mailOutboxService(),
+                tokenDenyList(),
+                cacheEvictionMap(),
+                taskOwnershipIndex(userRepository),
+                refreshTokenStore()
         );
     }
 
     @Bean
     @Primary
     public TaskServiceImpl taskService(final TaskRepository taskRepository) {
-        return new TaskServiceImpl(taskRepository, imageService());
+        return new TaskServiceImpl(taskRepository,
+                imageService(),
+                thumbnailService(),
+                taskProperties(),
+                entityManager(),
+                cacheEvictionMap(),
+                taskOwnershipIndex(userRepository()),
+                jdbcTemplate(),
+                reminderSchedule());
     }
 
     @Bean
@@ -120,6 +231,11 @@ public class TestConfig {
         return Mockito.mock(UserRepository.class);
     }
 
+    @Bean
+    public MailOutboxRepository mailOutboxRepository() {
+        return Mockito.mock(MailOutboxRepository.class);
+    }
+
     @Bean
     public TaskRepository taskRepository() {
         return Mockito.mock(TaskRepository.class);
@@ -0,0 +1,149 @@
+package org.example.tasklist.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.props.CacheProperties;
+import org.example.tasklist.service.props.NearCacheProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TwoTierCacheManagerTest {
+
+    private static final String CACHE = "UserService::getById";
+
+    private CacheManager remoteCacheManager;
+    private CacheValueSerializer valueSerializer;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoTierCacheManager firstNode;
+    private TwoTierCacheManager secondNode;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        valueSerializer = new CacheValueSerializer(
+                getClass().getClassLoader());
+        List<TwoTierCacheManager> nodes = new ArrayList<>();
+        firstNode = new TwoTierCacheManager(remoteCacheManager,
+                valueSerializer,
+                new NearCacheProperties(),
+                new CacheProperties(),
+                meterRegistry,
+                message -> nodes.forEach(
+                        node -> node.onInvalidation(message)));
+        secondNode = new TwoTierCacheManager(remoteCacheManager,
+                valueSerializer,
+                new NearCacheProperties(),
+                new CacheProperties(),
+                new SimpleMeterRegistry(),
+                message -> nodes.forEach(
+                        node -> node.onInvalidation(message)));
+        nodes.add(firstNode);
+        nodes.add(secondNode);
+    }
+
+    @Test
+    void getServedFromLocalTier() {
+        Cache cache = firstNode.getCache(CACHE);
+        cache.put(1L, "John");
+        remoteCacheManager.getCache(CACHE).clear();
+        Assertions.assertEquals("John", cache.get(1L, String.class));
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.tier.hit.ratio")
+                .tag("cache", CACHE)
+                .tag("tier", "local")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void getLoadsLocalTierFromRemote() {
+        remoteCacheManager.getCache(CACHE).put(1L, "John");
+        Cache cache = firstNode.getCache(CACHE);
+        Assertions.assertEquals("John", cache.get(1L, String.class));
+        Assertions.assertEquals("John", cache.get(1L, String.class));
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.tier.gets")
+                .tag("cache", CACHE)
+                .tag("tier", "remote")
+                .tag("result", "hit")
+                .counter()
+                .count());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.tier.gets")
+                .tag("cache", CACHE)
+                .tag("tier", "local")
+                .tag("result", "hit")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void putInvalidatesOtherNodes() {
+        firstNode.getCache(CACHE).put(1L, "John");
+        Assertions.assertEquals("John",
+                secondNode.getCache(CACHE).get(1L, String.class));
+        firstNode.getCache(CACHE).put(1L, "Mike");
+        Assertions.assertEquals("Mike",
+                secondNode.getCache(CACHE).get(1L, String.class));
+    }
+
+    @Test
+    void evictInvalidatesOtherNodes() {
+        firstNode.getCache(CACHE).put(1L, "John");
+        Assertions.assertEquals("John",
+                secondNode.getCache(CACHE).get(1L, String.class));
+        firstNode.getCache(CACHE).evict(1L);
+        Assertions.assertNull(secondNode.getCache(CACHE).get(1L));
+    }
+
+    @Test
+    void clearInvalidatesOtherNodes() {
+        firstNode.getCache(CACHE).put(1L, "John");
+        Assertions.assertEquals("John",
+                secondNode.getCache(CACHE).get(1L, String.class));
+        firstNode.getCache(CACHE).clear();
+        Assertions.assertNull(secondNode.getCache(CACHE).get(1L));
+    }
+
+    @Test
+    void getReturnsCopyOfLocalValue() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("John");
+        Cache cache = firstNode.getCache(CACHE);
+        cache.put(1L, user);
+        user.setName("Mike");
+        cache.get(1L, User.class).setName("Mike");
+        Assertions.assertEquals("John", cache.get(1L, User.class).getName());
+    }
+
+    @Test
+    void getDoesNotRepopulateInvalidatedLocalValue() {
+        Cache remoteCache = Mockito.mock(Cache.class);
+        TwoTierCache[] cache = new TwoTierCache[1];
+        cache[0] = new TwoTierCache(CACHE,
+                Caffeine.newBuilder().build(),
+                remoteCache,
+                valueSerializer,
+                key -> { },
+                new SimpleMeterRegistry());
+        Mockito.when(remoteCache.get(1L))
+                .thenAnswer(invocation -> {
+                    cache[0].evictLocal("1");
+                    return new SimpleValueWrapper("John");
+                })
+                .thenReturn(new SimpleValueWrapper("Mike"));
+        Assertions.assertEquals("John", cache[0].get(1L, String.class));
+        Assertions.assertEquals("Mike", cache[0].get(1L, String.class));
+        Assertions.assertEquals("Mike", cache[0].get(1L, String.class));
+        Mockito.verify(remoteCache, Mockito.times(2)).get(1L);
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.tasklist.service.impl;
+
+import io.minio.BucketExistsArgs;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.http.Method;
+import io.minio.messages.Part;
+import org.example.tasklist.config.MinioMultipartClient;
+import org.example.tasklist.domain.exception.ImageUploadException;
+import org.example.tasklist.domain.task.PresignedImage;
+import org.example.tasklist.domain.task.TaskImage;
+import org.example.tasklist.service.props.MinioProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ImageServiceImplTest {
+
+    private MinioClient minioClient;
+    private MinioMultipartClient multipartClient;
+    private MinioProperties minioProperties;
+    private ImageServiceImpl imageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        minioClient = Mockito.mock(MinioClient.class);
+        Mockito.when(minioClient.bucketExists(
+                ArgumentMatchers.any(BucketExistsArgs.class)))
+                .thenReturn(true);
+        multipartClient = Mockito.mock(MinioMultipartClient.class);
+        Mockito.when(multipartClient.createUpload(
+                        ArgumentMatchers.eq("images"),
+                        ArgumentMatchers.anyString()))
+                .thenReturn("upload");
+        Mockito.when(multipartClient.uploadPart(
+                        ArgumentMatchers.eq("images"),
+                        ArgumentMatchers.anyString(),
+                        ArgumentMatchers.eq("upload"),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.any(InputStream.class),
+                        ArgumentMatchers.anyLong()))
+                .thenAnswer(invocationOnMock -> new Part(
+                        invocationOnMock.getArgument(3), "etag"));
+        minioProperties = new MinioProperties();
+        minioProperties.setBucket("images");
+        imageService = new ImageServiceImpl(minioClient,
+                multipartClient,
+                minioProperties);
+        imageService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Test
+    void uploadWithKnownSize() throws Exception {
+        TaskImage image = image(new byte[1024]);
+        String fileName = imageService.upload(image);
+        ArgumentCaptor<PutObjectArgs> args =
+                ArgumentCaptor.forClass(PutObjectArgs.class);
+        Mockito.verify(minioClient).putObject(args.capture());
+        Assertions.assertEquals(1024, args.getValue().objectSize());
+        Assertions.assertEquals(fileName, args.getValue().object());
+        Assertions.assertTrue(fileName.endsWith(".png"));
+    }
+
+    @Test
+    void uploadChecksBucketOnce() throws Exception {
+        imageService.upload(image(new byte[1024]));
+        imageService.upload(image(new byte[1024]));
+        Mockito.verify(minioClient, Mockito.times(1))
+                .bucketExists(ArgumentMatchers.any(BucketExistsArgs.class));
+        Mockito.verify(minioClient, Mockito.times(2))
+                .putObject(ArgumentMatchers.any(PutObjectArgs.class));
+    }
+
+    @Test
+    void uploadLargeImageInParts() throws Exception {
+        minioProperties.setPartSize(DataSize.ofMegabytes(5));
+        minioProperties.setParallelThreshold(DataSize.ofMegabytes(1));
+        int size = (int) DataSize.ofMegabytes(6).toBytes();
+        String fileName = imageService.upload(image(new byte[size]));
+        Mockito.verify(multipartClient).uploadPart(
+                ArgumentMatchers.eq("images"),
+                ArgumentMatchers.eq(fileName),
+                ArgumentMatchers.eq("upload"),
+                ArgumentMatchers.eq(1),
+                ArgumentMatchers.any(InputStream.class),
+                ArgumentMatchers.eq(DataSize.ofMegabytes(5).toBytes()));
+        Mockito.verify(multipartClient).uploadPart(
+                ArgumentMatchers.eq("images"),
+                ArgumentMatchers.eq(fileName),
+                ArgumentMatchers.eq("upload"),
+                ArgumentMatchers.eq(2),
+                ArgumentMatchers.any(InputStream.class),
+                ArgumentMatchers.eq(DataSize.ofMegabytes(1).toBytes()));
+        ArgumentCaptor<Part[]> parts = ArgumentCaptor.forClass(Part[].class);
+        Mockito.verify(multipartClient).completeUpload(
+                ArgumentMatchers.eq("images"),
+                ArgumentMatchers.eq(fileName),
+                ArgumentMatchers.eq("upload"),
+                parts.capture());
+        Assertions.assertEquals(2, parts.getValue().length);
+        Assertions.assertEquals(1, parts.getValue()[0].partNumber());
+        Assertions.assertEquals(2, parts.getValue()[1].partNumber());
+        Mockito.verify(minioClient, Mockito.never())
+                .putObject(ArgumentMatchers.any(PutObjectArgs.class));
+        Mockito.verify(multipartClient, Mockito.never()).abortUpload(
+                ArgumentMatchers.anyString(),
+                ArgumentMatchers.anyString(),
+                ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void uploadLargeImageAbortsFailedUpload() throws Exception {
+        minioProperties.setPartSize(DataSize.ofMegabytes(5));
+        minioProperties.setParallelThreshold(DataSize.ofMegabytes(1));
+        Mockito.when(multipartClient.uploadPart(
+                        ArgumentMatchers.eq("images"),
+                        ArgumentMatchers.anyString(),
+                        ArgumentMatchers.eq("upload"),
+                        ArgumentMatchers.eq(2),
+                        ArgumentMatchers.any(InputStream.class),
+                        ArgumentMatchers.anyLong()))
+                .thenThrow(new IOException("broken pipe"));
+        int size = (int) DataSize.ofMegabytes(6).toBytes();
+        ImageUploadException exception = Assertions.assertThrows(
+                ImageUploadException.class,
+                () -> imageService.upload(image(new byte[size])));
+        Assertions.assertEquals("Image upload failed: broken pipe",
+                exception.getMessage());
+        Mockito.verify(multipartClient).abortUpload(
+                ArgumentMatchers.eq("images"),
+                ArgumentMatchers.anyString(),
+                ArgumentMatchers.eq("upload"));
+        Mockito.verify(multipartClient, Mockito.never()).completeUpload(
+                ArgumentMatchers.anyString(),
+                ArgumentMatchers.anyString(),
+                ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(Part[].class));
+    }
+
+    @Test
+    void createUploadUrl() throws Exception {
+        ArgumentCaptor<GetPresignedObjectUrlArgs> args =
+                ArgumentCaptor.forClass(GetPresignedObjectUrlArgs.class);
+        Mockito.when(minioClient.getPresignedObjectUrl(args.capture()))
+                .thenReturn("url");
+        PresignedImage image =
+                imageService.createUploadUrl("tasks/1/", "image.png");
+        Assertions.assertTrue(image.getImage().startsWith("tasks/1/"));
+        Assertions.assertTrue(image.getImage().endsWith(".png"));
+        Assertions.assertEquals("url", image.getUrl());
+        Assertions.assertEquals(Method.PUT, args.getValue().method());
+        Assertions.assertEquals(image.getImage(), args.getValue().object());
+    }
+
+    @Test
+    void createUploadUrlWithoutExtension() {
+        Assertions.assertThrows(ImageUploadException.class,
+                () -> imageService.createUploadUrl("tasks/1/", "image"));
+    }
+
+    private TaskImage image(final byte[] content) {
+        TaskImage image = new TaskImage();
+        image.setFile(new MockMultipartFile("file", "image.png",
+                "image/png", content));
+        return image;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.tasklist.service.impl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import freemarker.template.Configuration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.example.tasklist.domain.MailType;
+import org.example.tasklist.domain.mail.MailOutboxMessage;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.repository.MailOutboxRepository;
+import org.example.tasklist.service.props.MailOutboxProperties;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Properties;
+
+public class MailOutboxServiceImplTest {
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL =
+            new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailOutboxRepository mailOutboxRepository;
+    private JavaMailSenderImpl mailSender;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxServiceImpl mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository = Mockito.mock(MailOutboxRepository.class);
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        Configuration configuration =
+                new Configuration(Configuration.VERSION_2_3_31);
+        configuration.setClassForTemplateLoading(getClass(), "/templates/");
+        MailServiceImpl mailService =
+                new MailServiceImpl(configuration,
+                        mailSender,
+                        new ReminderProperties());
+        mailService.init();
+        meterRegistry = new SimpleMeterRegistry();
+        mailOutboxService = new MailOutboxServiceImpl(mailOutboxRepository,
+                mailService,
+                mailSender,
+                new MailOutboxProperties(),
+                meterRegistry);
+        mailOutboxService.init();
+    }
+
+    @Test
+    void enqueue() {
+        User user = new User();
+        user.setName("Mike");
+        user.setUsername("mike@gmail.com");
+        mailOutboxService.enqueue(user, MailType.REGISTRATION,
+                new Properties());
+        ArgumentCaptor<MailOutboxMessage> message =
+                ArgumentCaptor.forClass(MailOutboxMessage.class);
+        Mockito.verify(mailOutboxRepository).save(message.capture());
+        Assertions.assertEquals(MailType.REGISTRATION,
+                message.getValue().getType());
+        Assertions.assertEquals("mike@gmail.com",
+                message.getValue().getRecipient());
+        Assertions.assertEquals(0, message.getValue().getAttempts());
+    }
+
+    @Test
+    void dispatchSendsBatch() throws Exception {
+        MailOutboxMessage registration = message(1L, "mike@gmail.com",
+                MailType.REGISTRATION, null);
+        MailOutboxMessage reminder = message(2L, "john@gmail.com",
+                MailType.REMINDER, "task.title=Title\n");
+        List<MailOutboxMessage> messages = List.of(registration, reminder);
+        Mockito.when(mailOutboxRepository.findBatchForDispatch(5, 50))
+                .thenReturn(messages);
+        mailOutboxService.dispatch();
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        Assertions.assertEquals(2, received.length);
+        MimeMessage receivedReminder = received[0].getSubject()
+                .startsWith("You have") ? received[0] : received[1];
+        Assertions.assertEquals("You have task to do in about 1 hour",
+                receivedReminder.getSubject());
+        Assertions.assertTrue(((String) receivedReminder.getContent())
+                .contains("to do in about 1 hour."));
+        Mockito.verify(mailOutboxRepository).deleteAllInBatch(messages);
+    }
+
+    @Test
+    void dispatchKeepsMessagesWhenServerIsDown() {
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+        MailOutboxMessage registration = message(1L, "mike@gmail.com",
+                MailType.REGISTRATION, null);
+        Mockito.when(mailOutboxRepository.findBatchForDispatch(5, 50))
+                .thenReturn(List.of(registration));
+        mailOutboxService.dispatch();
+        Assertions.assertEquals(1, registration.getAttempts());
+        Assertions.assertTrue(registration.getNextAttemptAt() != null);
+        Mockito.verify(mailOutboxRepository).deleteAllInBatch(List.of());
+    }
+
+    @Test
+    void dispatchDropsMessagesAfterLastAttempt() {
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+        MailOutboxMessage registration = message(1L, "mike@gmail.com",
+                MailType.REGISTRATION, null);
+        registration.setAttempts(4);
+        Mockito.when(mailOutboxRepository.findBatchForDispatch(5, 50))
+                .thenReturn(List.of(registration));
+        mailOutboxService.dispatch();
+        Assertions.assertEquals(5, registration.getAttempts());
+        Assertions.assertEquals(1, meterRegistry
+                .counter("mail.outbox.dropped").count());
+        Mockito.verify(mailOutboxRepository)
+                .deleteAllInBatch(List.of(registration));
+    }
+
+    private MailOutboxMessage message(final Long id,
+                                      final String recipient,
+                                      final MailType type,
+                                      final String params) {
+        MailOutboxMessage message = new MailOutboxMessage();
+        message.setId(id);
+        message.setRecipient(recipient);
+        message.setName("Mike");
+        message.setType(type);
+        message.setParams(params);
+        return message;
+    }
+}
@@ -2,6 +2,7 @@ package org.example.tasklist.service.impl;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
+import freemarker.template.TemplateException;
 import jakarta.mail.internet.MimeMessage;
 import org.example.tasklist.config.TestConfig;
 import org.example.tasklist.domain.MailType;
@@ -21,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Properties;
 
 @ExtendWith(SpringExtension.class)
@@ -57,12 +59,15 @@ public class MailServiceImplTest {
             user.setUsername(username);
             Mockito.when(javaMailSender.createMimeMessage())
                     .thenReturn(Mockito.mock(MimeMessage.class));
+            Template template = Mockito.mock(Template.class);
             Mockito.when(configuration.getTemplate("register.ftlh"))
-                    .thenReturn(Mockito.mock(Template.class));
+                    .thenReturn(template);
+            mailService.init();
             mailService.sendEmail(user, MailType.REGISTRATION, new Properties());
-            Mockito.verify(configuration).getTemplate("register.ftlh");
+            Mockito.verify(template).process(Mockito.any(),
+                    Mockito.any(Writer.class));
             Mockito.verify(javaMailSender).send(Mockito.any(MimeMessage.class));
-        } catch (IOException e) {
+        } catch (IOException | TemplateException e) {
             throw new RuntimeException(e);
         }
     }
@@ -77,12 +82,15 @@ public class MailServiceImplTest {
             user.setUsername(username);
             Mockito.when(javaMailSender.createMimeMessage())
                     .thenReturn(Mockito.mock(MimeMessage.class));
+            Template template = Mockito.mock(Template.class);
             Mockito.when(configuration.getTemplate("reminder.ftlh"))
-                    .thenReturn(Mockito.mock(Template.class));
+                    .thenReturn(template);
+            mailService.init();
             mailService.sendEmail(user, MailType.REMINDER, new Properties());
-            Mockito.verify(configuration).getTemplate("reminder.ftlh");
+            Mockito.verify(template).process(Mockito.any(),
+                    Mockito.any(Writer.class));
             Mockito.verify(javaMailSender).send(Mockito.any(MimeMessage.class));
-        } catch (IOException e) {
+        } catch (IOException | TemplateException e) {
             throw new RuntimeException(e);
         }
     }
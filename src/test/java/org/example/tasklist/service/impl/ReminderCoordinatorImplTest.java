@@ -0,0 +1,54 @@
+package org.example.tasklist.service.impl;
+
+import org.example.tasklist.domain.task.ReminderShard;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+public class ReminderCoordinatorImplTest {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private ReminderCoordinatorImpl reminderCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(NamedParameterJdbcTemplate.class);
+        ReminderProperties properties = new ReminderProperties();
+        properties.setNodeId("b");
+        reminderCoordinator = new ReminderCoordinatorImpl(jdbcTemplate,
+                properties);
+    }
+
+    @Test
+    void getShardOrdersNodes() {
+        mockNodes(List.of("c", "b", "a"));
+        Assertions.assertEquals(new ReminderShard(1, 3),
+                reminderCoordinator.getShard());
+    }
+
+    @Test
+    void getShardIncludesMissingNode() {
+        mockNodes(List.of("c", "a"));
+        Assertions.assertEquals(new ReminderShard(1, 3),
+                reminderCoordinator.getShard());
+    }
+
+    @Test
+    void getShardWithoutNodes() {
+        mockNodes(List.of());
+        Assertions.assertEquals(new ReminderShard(0, 1),
+                reminderCoordinator.getShard());
+    }
+
+    private void mockNodes(final List<String> nodes) {
+        Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(),
+                        Mockito.anyMap(),
+                        Mockito.eq(String.class)))
+                .thenReturn(nodes);
+    }
+}
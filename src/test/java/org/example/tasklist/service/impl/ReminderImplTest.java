@@ -0,0 +1,270 @@
+package org.example.tasklist.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.domain.task.ReminderShard;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.repository.TaskDueView;
+import org.example.tasklist.repository.TaskReminderView;
+import org.example.tasklist.service.MailService;
+import org.example.tasklist.service.ReminderCoordinator;
+import org.example.tasklist.service.TaskService;
+import org.example.tasklist.service.props.ReminderProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class ReminderImplTest {
+
+    private TaskService taskService;
+    private ReminderCoordinator reminderCoordinator;
+    private ReminderSchedule reminderSchedule;
+    private MailService mailService;
+    private MeterRegistry meterRegistry;
+    private ReminderImpl reminder;
+
+    @BeforeEach
+    void setUp() {
+        taskService = Mockito.mock(TaskService.class);
+        reminderCoordinator = Mockito.mock(ReminderCoordinator.class);
+        Mockito.when(reminderCoordinator.getShard())
+                .thenReturn(new ReminderShard(0, 1));
+        Mockito.when(reminderCoordinator.claim(Mockito.any()))
+                .thenAnswer(invocation -> new HashSet<Long>(
+                        invocation.getArgument(0)));
+        mailService = Mockito.mock(MailService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ReminderProperties properties = new ReminderProperties();
+        properties.setPoolSize(2);
+        properties.setQueueCapacity(1);
+        properties.setMaxAttempts(2);
+        properties.setRetryBackoff(Duration.ZERO);
+        properties.setSpread(Duration.ZERO);
+        reminderSchedule = new ReminderSchedule(properties,
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class),
+                meterRegistry);
+        reminderSchedule.init();
+        reminder = new ReminderImpl(taskService,
+                reminderCoordinator,
+                reminderSchedule,
+                mailService,
+                properties,
+                meterRegistry);
+        reminder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reminder.shutdown();
+    }
+
+    @Test
+    void remindGroupsTasksByUser() {
+        LocalDateTime expirationDate = LocalDateTime.now().plusMinutes(59);
+        List<TaskDueView> schedule = List.of(
+                due(1L, expirationDate),
+                due(2L, expirationDate),
+                due(3L, expirationDate)
+        );
+        Mockito.doAnswer(invocation -> {
+                    Consumer<TaskDueView> consumer =
+                            invocation.getArgument(3);
+                    schedule.forEach(consumer);
+                    return null;
+                })
+                .when(taskService)
+                .streamReminderSchedule(Mockito.any(),
+                        Mockito.any(),
+                        Mockito.eq(new ReminderShard(0, 1)),
+                        Mockito.any());
+        List<TaskReminderView> reminders = List.of(
+                view(1L, 1L),
+                view(3L, 1L),
+                view(2L, 2L)
+        );
+        Mockito.when(taskService.getDueReminders(Mockito.any(),
+                        Mockito.any(),
+                        Mockito.any()))
+                .thenReturn(reminders);
+        reminder.loadReminders();
+        Assertions.assertEquals(3, reminderSchedule.size());
+        reminder.remindForTask();
+        reminder.shutdown();
+        ArgumentCaptor<User> users = ArgumentCaptor.forClass(User.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> tasks = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(mailService, Mockito.times(2))
+                .sendReminderEmail(users.capture(), tasks.capture());
+        for (int i = 0; i < 2; i++) {
+            if (users.getAllValues().get(i).getId().equals(1L)) {
+                Assertions.assertEquals(2, tasks.getAllValues().get(i).size());
+            } else {
+                Assertions.assertEquals(1, tasks.getAllValues().get(i).size());
+            }
+        }
+        Assertions.assertEquals(2, meterRegistry.get("reminder.mails")
+                .tag("result", "sent")
+                .counter()
+                .count());
+        Assertions.assertEquals(1, meterRegistry.get("reminder.run")
+                .timer()
+                .count());
+        Assertions.assertEquals(0, reminderSchedule.size());
+    }
+
+    @Test
+    void remindForTaskWaitsForLeadTime() {
+        TaskDueView task = due(1L, LocalDateTime.now().plusHours(3));
+        Mockito.doAnswer(invocation -> {
+                    Consumer<TaskDueView> consumer =
+                            invocation.getArgument(3);
+                    consumer.accept(task);
+                    return null;
+                })
+                .when(taskService)
+                .streamReminderSchedule(Mockito.any(),
+                        Mockito.any(),
+                        Mockito.any(),
+                        Mockito.any());
+        reminder.loadReminders();
+        reminder.remindForTask();
+        Assertions.assertEquals(1, reminderSchedule.size());
+        Mockito.verify(taskService, Mockito.never())
+                .getDueReminders(Mockito.any(), Mockito.any(),
+                        Mockito.any());
+    }
+
+    @Test
+    void loadRemindersReloadsAfterImport() {
+        LocalDateTime expirationDate = LocalDateTime.now().plusHours(2);
+        reminder.loadReminders();
+        Mockito.doAnswer(invocation -> {
+                    Consumer<TaskDueView> consumer =
+                            invocation.getArgument(3);
+                    consumer.accept(due(1L, expirationDate));
+                    return null;
+                })
+                .when(taskService)
+                .streamReminderSchedule(Mockito.eq(expirationDate),
+                        Mockito.any(),
+                        Mockito.any(),
+                        Mockito.any());
+        reminderSchedule.reload(expirationDate);
+        reminder.loadReminders();
+        Assertions.assertEquals(1, reminderSchedule.size());
+    }
+
+    @Test
+    void rescanRemindsOverdueTasks() {
+        List<TaskReminderView> reminders = List.of(view(1L, 1L));
+        Mockito.when(taskService.getOverdueReminders(Mockito.any(),
+                        Mockito.any(),
+                        Mockito.eq(1000)))
+                .thenReturn(reminders);
+        reminder.rescanReminders();
+        reminder.shutdown();
+        Mockito.verify(reminderCoordinator).claim(List.of(1L));
+        Mockito.verify(mailService)
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void remindSkipsTasksClaimedByAnotherRun() {
+        Mockito.when(reminderCoordinator.claim(List.of(1L, 2L)))
+                .thenReturn(Set.of(2L));
+        reminder.remind(List.of(view(1L, 1L), view(2L, 2L)));
+        reminder.shutdown();
+        ArgumentCaptor<User> users = ArgumentCaptor.forClass(User.class);
+        Mockito.verify(mailService)
+                .sendReminderEmail(users.capture(), Mockito.any());
+        Assertions.assertEquals(2L, users.getValue().getId());
+    }
+
+    @Test
+    void remindRetriesFailedMail() {
+        Mockito.doThrow(new IllegalStateException("SMTP is down"))
+                .doNothing()
+                .when(mailService)
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+        reminder.remind(List.of(view(1L, 1L)));
+        reminder.shutdown();
+        Mockito.verify(mailService, Mockito.times(2))
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+        Assertions.assertEquals(1, meterRegistry.get("reminder.mails")
+                .tag("result", "sent")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void remindCountsFailureAfterLastAttempt() {
+        Mockito.doThrow(new IllegalStateException("SMTP is down"))
+                .when(mailService)
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+        reminder.remind(List.of(view(1L, 1L)));
+        reminder.shutdown();
+        Mockito.verify(mailService, Mockito.times(2))
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+        Assertions.assertEquals(1, meterRegistry.get("reminder.mails")
+                .tag("result", "failed")
+                .counter()
+                .count());
+        Mockito.verify(reminderCoordinator).release(List.of(1L));
+    }
+
+    @Test
+    void remindReleasesRemindersRejectedByFullQueue() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+                    sending.countDown();
+                    release.await();
+                    return null;
+                })
+                .when(mailService)
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+        reminder.remind(List.of(view(1L, 1L),
+                view(2L, 2L),
+                view(3L, 3L),
+                view(4L, 4L)));
+        Assertions.assertTrue(sending.await(5, TimeUnit.SECONDS));
+        Mockito.verify(reminderCoordinator).release(List.of(4L));
+        release.countDown();
+        reminder.shutdown();
+        Mockito.verify(mailService, Mockito.times(3))
+                .sendReminderEmail(Mockito.any(), Mockito.any());
+    }
+
+    private TaskDueView due(final Long taskId,
+                            final LocalDateTime expirationDate) {
+        TaskDueView view = Mockito.mock(TaskDueView.class);
+        Mockito.when(view.getTaskId()).thenReturn(taskId);
+        Mockito.when(view.getExpirationDate()).thenReturn(expirationDate);
+        return view;
+    }
+
+    private TaskReminderView view(final Long taskId, final Long userId) {
+        TaskReminderView view = Mockito.mock(TaskReminderView.class);
+        Mockito.when(view.getTaskId()).thenReturn(taskId);
+        Mockito.when(view.getTitle()).thenReturn("title" + taskId);
+        Mockito.when(view.getUserId()).thenReturn(userId);
+        Mockito.when(view.getUsername()).thenReturn(userId + "@gmail.com");
+        return view;
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.tasklist.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.tasklist.config.CacheEvictionMap;
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskBulk;
+import org.example.tasklist.domain.task.TaskBulkResult;
+import org.example.tasklist.domain.task.TaskPage;
+import org.example.tasklist.service.ImageService;
+import org.example.tasklist.service.TaskService;
+import org.example.tasklist.service.ThumbnailService;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, TaskProperties.class})
+@Sql("/sql/tasks-schema.sql")
+public class TaskServiceImplQueryCountTest {
+
+    private static final long USER_ID = 1L;
+    private static final int TASKS_COUNT = 1000;
+
+    @MockBean
+    private ImageService imageService;
+
+    @MockBean
+    private ThumbnailService thumbnailService;
+
+    @MockBean
+    private CacheEvictionMap cacheEvictionMap;
+
+    @MockBean
+    private TaskOwnershipIndex taskOwnershipIndex;
+
+    @MockBean
+    private ReminderSchedule reminderSchedule;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, username, password)
+                VALUES (?, 'Mike', 'mike@gmail.com', 'password')
+                """, USER_ID);
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> links = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        for (long id = 1; id <= TASKS_COUNT; id++) {
+            tasks.add(new Object[]{id, "title" + id, "TODO"});
+            links.add(new Object[]{USER_ID, id});
+            images.add(new Object[]{id, id + "-1.png"});
+            images.add(new Object[]{id, id + "-2.png"});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tasks (id, title, status) VALUES (?, ?, ?)",
+                tasks);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users_tasks (user_id, task_id) VALUES (?, ?)",
+                links);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tasks_images (task_id, image) VALUES (?, ?)",
+                images);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllByUserIdRunsFixedNumberOfStatements() {
+        List<Task> tasks = taskService.getAllByUserId(USER_ID);
+        int imagesCount = tasks.stream()
+                .mapToInt(task -> task.getImages().size())
+                .sum();
+        Assertions.assertEquals(TASKS_COUNT, tasks.size());
+        Assertions.assertEquals(TASKS_COUNT * 2, imagesCount);
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getPageByUserIdRunsFixedNumberOfStatements() {
+        TaskPage page = taskService.getPageByUserId(USER_ID, 0L, 500);
+        page.getTasks().forEach(task ->
+                Assertions.assertEquals(2, task.getImages().size()));
+        Assertions.assertEquals(500, page.getTasks().size());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAllByUserIdRunsFixedNumberOfStatements() {
+        List<Long> ids = new ArrayList<>();
+        taskService.streamAllByUserId(USER_ID, task -> {
+            Assertions.assertEquals(2, task.getImages().size());
+            ids.add(task.getId());
+        });
+        Assertions.assertEquals(TASKS_COUNT, ids.size());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void bulkRunsBatchedStatements() {
+        jdbcTemplate.execute("ALTER SEQUENCE tasks_id_seq RESTART WITH "
+                + (TASKS_COUNT + Task.ID_ALLOCATION_SIZE + 1));
+        Mockito.when(taskOwnershipIndex.isOwner(Mockito.eq(USER_ID),
+                        Mockito.anyLong()))
+                .thenReturn(true);
+        TaskBulk bulk = new TaskBulk();
+        for (int i = 0; i < 100; i++) {
+            Task task = new Task();
+            task.setTitle("created" + i);
+            bulk.getCreate().add(task);
+        }
+        for (long id = 1; id <= 100; id++) {
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle("updated" + id);
+            task.setStatus(Status.DONE);
+            bulk.getUpdate().add(task);
+        }
+        bulk.getDelete().add(101L);
+        List<TaskBulkResult> results = taskService.bulk(bulk, USER_ID);
+        entityManager.flush();
+        Assertions.assertEquals(201, results.size());
+        Assertions.assertTrue(results.stream()
+                .allMatch(TaskBulkResult::isSuccess));
+        Assertions.assertTrue(statistics.getPrepareStatementCount() < 10);
+        Assertions.assertEquals(TASKS_COUNT + 100 - 1, jdbcTemplate
+                .queryForObject("SELECT count(*) FROM tasks", Integer.class));
+        Assertions.assertEquals(100, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tasks WHERE status = 'DONE'",
+                Integer.class));
+    }
+
+    @Test
+    void bulkReportsTasksOfAnotherUser() {
+        TaskBulk bulk = new TaskBulk();
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("updated");
+        bulk.getUpdate().add(task);
+        bulk.getDelete().add(2L);
+        List<TaskBulkResult> results = taskService.bulk(bulk, USER_ID);
+        Assertions.assertEquals(2, results.size());
+        Assertions.assertTrue(results.stream()
+                .noneMatch(TaskBulkResult::isSuccess));
+        Assertions.assertEquals(TASKS_COUNT, jdbcTemplate
+                .queryForObject("SELECT count(*) FROM tasks", Integer.class));
+    }
+}
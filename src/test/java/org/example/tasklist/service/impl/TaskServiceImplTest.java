@@ -1,12 +1,22 @@
 package org.example.tasklist.service.impl;
 
+import org.example.tasklist.config.CacheEvictionMap;
 import org.example.tasklist.config.TestConfig;
+import org.example.tasklist.domain.exception.ImageUploadException;
 import org.example.tasklist.domain.exception.ResourceNotFoundException;
+import org.example.tasklist.domain.task.PresignedImage;
 import org.example.tasklist.domain.task.Status;
 import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskBulk;
+import org.example.tasklist.domain.task.TaskBulkResult;
 import org.example.tasklist.domain.task.TaskImage;
+import org.example.tasklist.domain.task.TaskPage;
+import org.example.tasklist.domain.task.TaskSearch;
+import org.example.tasklist.repository.TaskImageView;
 import org.example.tasklist.repository.TaskRepository;
 import org.example.tasklist.service.ImageService;
+import org.example.tasklist.service.ThumbnailService;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +46,18 @@ public class TaskServiceImplTest {
     @MockBean
     private ImageService imageService;
 
+    @MockBean
+    private ThumbnailService thumbnailService;
+
+    @MockBean
+    private TaskOwnershipIndex taskOwnershipIndex;
+
+    @MockBean
+    private ReminderSchedule reminderSchedule;
+
+    @MockBean
+    private CacheEvictionMap cacheEvictionMap;
+
     @Autowired
     private TaskServiceImpl taskService;
 
@@ -75,6 +97,105 @@ public class TaskServiceImplTest {
         Assertions.assertEquals(tasks, testTasks);
     }
 
+    @Test
+    void getPageByUserId() {
+        Long userId = 1L;
+        List<Task> tasks = new ArrayList<>();
+        for (long i = 1; i <= 3; i++) {
+            Task task = new Task();
+            task.setId(i);
+            tasks.add(task);
+        }
+        Mockito.when(taskRepository.findPageByUserId(userId, 0L, 3))
+                .thenReturn(tasks);
+        TaskPage page = taskService.getPageByUserId(userId, null, null);
+        Assertions.assertEquals(2, page.getTasks().size());
+        Assertions.assertEquals(2L, page.getNextCursor());
+    }
+
+    @Test
+    void getLastPageByUserId() {
+        Long userId = 1L;
+        Long after = 2L;
+        Task task = new Task();
+        task.setId(3L);
+        Mockito.when(taskRepository.findPageByUserId(userId, after, 6))
+                .thenReturn(List.of(task));
+        TaskPage page = taskService.getPageByUserId(userId, after, 100);
+        Assertions.assertEquals(List.of(task), page.getTasks());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void streamAllByUserId() {
+        Long userId = 1L;
+        List<Task> tasks = List.of(new Task(), new Task());
+        Mockito.when(taskRepository.streamAllByUserId(userId))
+                .thenReturn(tasks.stream());
+        List<Task> consumed = new ArrayList<>();
+        taskService.streamAllByUserId(userId, consumed::add);
+        Assertions.assertEquals(tasks, consumed);
+    }
+
+    @Test
+    void search() {
+        Long userId = 1L;
+        TaskSearch search = new TaskSearch("report", Status.TODO,
+                null, null);
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Task task = new Task();
+            task.setId(id);
+            tasks.add(task);
+        }
+        Mockito.when(taskRepository.search(userId, search, 0L, 3))
+                .thenReturn(tasks);
+        TaskPage page = taskService.search(userId, search, null, 2);
+        Assertions.assertEquals(2, page.getTasks().size());
+        Assertions.assertEquals(2L, page.getNextCursor());
+    }
+
+    @Test
+    void searchLastPage() {
+        Long userId = 1L;
+        Task task = new Task();
+        task.setId(5L);
+        Mockito.when(taskRepository.search(Mockito.eq(userId),
+                        Mockito.any(TaskSearch.class),
+                        Mockito.eq(4L),
+                        Mockito.eq(3)))
+                .thenReturn(List.of(task));
+        TaskPage page = taskService.search(userId, null, 4L, 2);
+        Assertions.assertEquals(List.of(task), page.getTasks());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void updateReschedulesReminder() {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("title");
+        task.setStatus(Status.TODO);
+        task.setExpirationDate(LocalDateTime.now().plusDays(1));
+        Mockito.when(taskRepository.findOwnerId(1L))
+                .thenReturn(Optional.of(5L));
+        taskService.update(task);
+        Mockito.verify(reminderSchedule)
+                .schedule(5L, 1L, task.getExpirationDate());
+    }
+
+    @Test
+    void updateDoneTaskCancelsReminder() {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("title");
+        task.setStatus(Status.DONE);
+        task.setExpirationDate(LocalDateTime.now().plusDays(1));
+        taskService.update(task);
+        Mockito.verify(reminderSchedule).cancel(1L);
+        Mockito.verify(taskRepository, Mockito.never()).findOwnerId(1L);
+    }
+
     @Test
     void update() {
         Task task = new Task();
@@ -85,6 +206,7 @@ public class TaskServiceImplTest {
         task.setStatus(Status.DONE);
         Task testTask = taskService.update(task);
         Mockito.verify(taskRepository).save(task);
+        Mockito.verify(cacheEvictionMap).evictTask(1L);
         Assertions.assertEquals(task, testTask);
     }
 
@@ -120,6 +242,7 @@ public class TaskServiceImplTest {
     void delete(){
         Long id = 1L;
         taskService.delete(id);
+        Mockito.verify(taskRepository).findOwnerId(id);
         Mockito.verify(taskRepository).deleteById(id);
     }
 
@@ -132,5 +255,157 @@ public class TaskServiceImplTest {
                 .thenReturn(imageName);
         taskService.uploadImage(id, taskImage);
         Mockito.verify(taskRepository).addImage(id, imageName);
+        Mockito.verify(cacheEvictionMap).evictTask(id);
+        Mockito.verify(thumbnailService).generate(id, imageName);
+    }
+
+    @Test
+    void createImageUploadUrl() {
+        Long id = 1L;
+        PresignedImage image = new PresignedImage("tasks/1/image.png", "url");
+        Mockito.when(imageService.createUploadUrl("tasks/1/", "image.png"))
+                .thenReturn(image);
+        PresignedImage testImage =
+                taskService.createImageUploadUrl(id, "image.png");
+        Assertions.assertEquals(image, testImage);
+    }
+
+    @Test
+    void confirmImage() {
+        Long id = 1L;
+        String image = "tasks/1/image.png";
+        Mockito.when(imageService.exists(image))
+                .thenReturn(true);
+        taskService.confirmImage(id, image);
+        Mockito.verify(taskRepository).addImage(id, image);
+        Mockito.verify(cacheEvictionMap).evictTask(id);
+        Mockito.verify(thumbnailService).generate(id, image);
+    }
+
+    @Test
+    void confirmImageOfAnotherTask() {
+        Assertions.assertThrows(ImageUploadException.class,
+                () -> taskService.confirmImage(1L, "tasks/2/image.png"));
+        Mockito.verify(imageService, Mockito.never())
+                .exists(Mockito.anyString());
+        Mockito.verify(taskRepository, Mockito.never())
+                .addImage(Mockito.anyLong(), Mockito.anyString());
+    }
+
+    @Test
+    void confirmImageNotUploaded() {
+        String image = "tasks/1/image.png";
+        Mockito.when(imageService.exists(image))
+                .thenReturn(false);
+        Assertions.assertThrows(ImageUploadException.class,
+                () -> taskService.confirmImage(1L, image));
+        Mockito.verify(taskRepository, Mockito.never())
+                .addImage(Mockito.anyLong(), Mockito.anyString());
+    }
+
+    @Test
+    void getImageUrl() {
+        Long id = 1L;
+        String image = "tasks/1/image.png";
+        PresignedImage presignedImage = new PresignedImage(
+                "thumbnails/" + image, "url");
+        Mockito.when(taskRepository.findImagesByTaskIds(List.of(id)))
+                .thenReturn(List.of(imageView(id, image),
+                        imageView(id, "thumbnails/" + image, true)));
+        Mockito.when(imageService.createDownloadUrl("thumbnails/" + image))
+                .thenReturn(presignedImage);
+        PresignedImage testImage =
+                taskService.getImageUrl(id, "thumbnails/" + image);
+        Assertions.assertEquals(presignedImage, testImage);
+    }
+
+    @Test
+    void getImageUrlWithNotProducedThumbnail() {
+        Long id = 1L;
+        String image = "tasks/1/image.png";
+        Mockito.when(taskRepository.findImagesByTaskIds(List.of(id)))
+                .thenReturn(List.of(imageView(id, image)));
+        Assertions.assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getImageUrl(id, "thumbnails/" + image));
+        Mockito.verify(imageService, Mockito.never())
+                .createDownloadUrl(Mockito.anyString());
+    }
+
+    @Test
+    void getImageUrlWithNotExistingImage() {
+        Long id = 1L;
+        Mockito.when(taskRepository.findImagesByTaskIds(List.of(id)))
+                .thenReturn(List.of(imageView(id, "tasks/1/image.png")));
+        Assertions.assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getImageUrl(id, "tasks/2/image.png"));
+        Mockito.verify(imageService, Mockito.never())
+                .createDownloadUrl(Mockito.anyString());
+    }
+
+    @Test
+    void bulk() {
+        Long userId = 1L;
+        TaskBulk bulk = new TaskBulk();
+        Task created = new Task();
+        bulk.getCreate().add(created);
+        Task updated = new Task();
+        updated.setId(2L);
+        updated.setTitle("title");
+        bulk.getUpdate().add(updated);
+        bulk.getDelete().add(3L);
+        Mockito.doAnswer(invocationOnMock -> {
+            List<Task> tasks = invocationOnMock.getArgument(0);
+            tasks.forEach(task -> task.setId(1L));
+            return tasks;
+        })
+                .when(taskRepository).saveAll(List.of(created));
+        Mockito.when(taskOwnershipIndex.isOwner(userId, 3L))
+                .thenReturn(true);
+        List<TaskBulkResult> results = taskService.bulk(bulk, userId);
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertEquals(Status.TODO, created.getStatus());
+        Assertions.assertTrue(results.get(0).isSuccess());
+        Assertions.assertFalse(results.get(1).isSuccess());
+        Assertions.assertTrue(results.get(2).isSuccess());
+        Mockito.verify(taskOwnershipIndex).addTask(userId, 1L);
+        Mockito.verify(taskRepository).deleteAllByIdInBatch(List.of(3L));
+        Mockito.verify(taskOwnershipIndex).removeTask(userId, 3L);
+    }
+
+    @Test
+    void bulkTooLarge() {
+        TaskBulk bulk = new TaskBulk();
+        for (long id = 0; id <= 10_000; id++) {
+            bulk.getDelete().add(id);
+        }
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> taskService.bulk(bulk, 1L));
+        Mockito.verify(taskRepository, Mockito.never())
+                .deleteAllByIdInBatch(Mockito.any());
+    }
+
+    private TaskImageView imageView(final Long taskId, final String image) {
+        return imageView(taskId, image, false);
+    }
+
+    private TaskImageView imageView(final Long taskId,
+                                    final String image,
+                                    final boolean thumbnail) {
+        return new TaskImageView() {
+            @Override
+            public Long getTaskId() {
+                return taskId;
+            }
+
+            @Override
+            public String getImage() {
+                return image;
+            }
+
+            @Override
+            public Boolean getThumbnail() {
+                return thumbnail;
+            }
+        };
     }
 }
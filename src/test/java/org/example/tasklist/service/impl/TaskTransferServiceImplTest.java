@@ -0,0 +1,201 @@
+package org.example.tasklist.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.domain.task.Status;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskFormat;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class TaskTransferServiceImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String NEXT_ID = "SELECT nextval('tasks_id_seq')";
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskOwnershipIndex taskOwnershipIndex;
+    private ReminderSchedule reminderSchedule;
+    private TaskProperties taskProperties;
+    private TaskTransferServiceImpl taskTransferService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        taskOwnershipIndex = Mockito.mock(TaskOwnershipIndex.class);
+        reminderSchedule = Mockito.mock(ReminderSchedule.class);
+        taskProperties = new TaskProperties();
+        taskTransferService = new TaskTransferServiceImpl(jdbcTemplate,
+                new ObjectMapper(),
+                taskProperties,
+                taskOwnershipIndex,
+                reminderSchedule,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void exportCsv() throws Exception {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getLong("id"))
+                .thenReturn(1L, 2L);
+        Mockito.when(resultSet.getString("title"))
+                .thenReturn("First", "Second, \"quoted\"");
+        Mockito.when(resultSet.getString("description"))
+                .thenReturn("Description", (String) null);
+        Mockito.when(resultSet.getString("status"))
+                .thenReturn("TODO", "DONE");
+        Mockito.when(resultSet.getTimestamp("expiration_date"))
+                .thenReturn(Timestamp.valueOf(
+                        LocalDateTime.of(2023, 1, 1, 10, 0)), (Timestamp) null);
+        mockRows(resultSet, 2);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = taskTransferService.exportTasks(USER_ID,
+                TaskFormat.CSV, output);
+        Assertions.assertEquals(2, exported);
+        Assertions.assertEquals("""
+                id,title,description,status,expiration_date
+                1,First,Description,TODO,2023-01-01T10:00
+                2,"Second, ""quoted\"\"\",,DONE,
+                """, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportNdjson() throws Exception {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getLong("id"))
+                .thenReturn(1L);
+        Mockito.when(resultSet.getString("title"))
+                .thenReturn("First");
+        Mockito.when(resultSet.getString("status"))
+                .thenReturn("TODO");
+        mockRows(resultSet, 2);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = taskTransferService.exportTasks(USER_ID,
+                TaskFormat.NDJSON, output);
+        Assertions.assertEquals(2, exported);
+        String line = "{\"id\":1,\"title\":\"First\",\"description\":null,"
+                + "\"status\":\"TODO\",\"expirationDate\":null}\n";
+        Assertions.assertEquals(line + line,
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importCsv() {
+        taskProperties.setTransferBatchSize(1);
+        Mockito.when(jdbcTemplate.queryForObject(NEXT_ID, Long.class))
+                .thenReturn(50L);
+        String csv = """
+                title,description,status,expiration_date
+                First,"multi
+                line, text",DONE,2023-01-01T10:00\r
+                Second,,,
+                """;
+        long imported = taskTransferService.importTasks(USER_ID,
+                TaskFormat.CSV, input(csv));
+        Assertions.assertEquals(2, imported);
+        List<Task> tasks = insertedTasks(2);
+        Assertions.assertEquals(1L, tasks.get(0).getId());
+        Assertions.assertEquals("multi\nline, text",
+                tasks.get(0).getDescription());
+        Assertions.assertEquals(Status.DONE, tasks.get(0).getStatus());
+        Assertions.assertEquals(LocalDateTime.of(2023, 1, 1, 10, 0),
+                tasks.get(0).getExpirationDate());
+        Assertions.assertEquals(2L, tasks.get(1).getId());
+        Assertions.assertEquals("Second", tasks.get(1).getTitle());
+        Assertions.assertNull(tasks.get(1).getDescription());
+        Assertions.assertEquals(Status.TODO, tasks.get(1).getStatus());
+        Mockito.verify(taskOwnershipIndex).removeUser(USER_ID);
+        Mockito.verify(reminderSchedule)
+                .reload(LocalDateTime.of(2023, 1, 1, 10, 0));
+    }
+
+    @Test
+    void importNdjson() {
+        Mockito.when(jdbcTemplate.queryForObject(NEXT_ID, Long.class))
+                .thenReturn(100L);
+        String ndjson = """
+                {"title":"First","status":"IN_PROGRESS"}
+                {"title":"Second","expirationDate":"2023-01-01T10:00:00"}
+                """;
+        long imported = taskTransferService.importTasks(USER_ID,
+                TaskFormat.NDJSON, input(ndjson));
+        Assertions.assertEquals(2, imported);
+        List<Task> tasks = insertedTasks(1);
+        Assertions.assertEquals(51L, tasks.get(0).getId());
+        Assertions.assertEquals(Status.IN_PROGRESS, tasks.get(0).getStatus());
+        Assertions.assertEquals(52L, tasks.get(1).getId());
+        Assertions.assertEquals(LocalDateTime.of(2023, 1, 1, 10, 0),
+                tasks.get(1).getExpirationDate());
+    }
+
+    @Test
+    void importInvalidRecord() {
+        Mockito.when(jdbcTemplate.queryForObject(NEXT_ID, Long.class))
+                .thenReturn(50L);
+        String csv = """
+                title,status
+                First,TODO
+                ,TODO
+                """;
+        IllegalStateException exception = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> taskTransferService.importTasks(USER_ID,
+                        TaskFormat.CSV, input(csv)));
+        Assertions.assertTrue(exception.getMessage().contains("record 2"));
+        Mockito.verify(taskOwnershipIndex, Mockito.never())
+                .removeUser(USER_ID);
+    }
+
+    private void mockRows(final ResultSet resultSet, final int rows) {
+        Mockito.doAnswer(invocationOnMock -> {
+            RowCallbackHandler handler = invocationOnMock.getArgument(1);
+            for (int i = 0; i < rows; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        })
+                .when(jdbcTemplate).query(
+                        ArgumentMatchers.any(PreparedStatementCreator.class),
+                        ArgumentMatchers.any(RowCallbackHandler.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Task> insertedTasks(final int batches) {
+        ArgumentCaptor<Collection<Task>> captor =
+                ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(jdbcTemplate, Mockito.times(batches)).batchUpdate(
+                ArgumentMatchers.startsWith("INSERT INTO tasks"),
+                captor.capture(),
+                ArgumentMatchers.anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<Task>>
+                        any());
+        List<Task> tasks = new ArrayList<>();
+        captor.getAllValues().forEach(tasks::addAll);
+        return tasks;
+    }
+
+    private ByteArrayInputStream input(final String value) {
+        return new ByteArrayInputStream(
+                value.getBytes(StandardCharsets.UTF_8));
+    }
+}
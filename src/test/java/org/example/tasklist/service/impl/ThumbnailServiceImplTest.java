@@ -0,0 +1,150 @@
+package org.example.tasklist.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import okhttp3.Headers;
+import org.example.tasklist.config.CacheEvictionMap;
+import org.example.tasklist.service.props.MinioProperties;
+import org.example.tasklist.service.props.ThumbnailProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+public class ThumbnailServiceImplTest {
+
+    private MinioClient minioClient;
+    private JdbcTemplate jdbcTemplate;
+    private CacheEvictionMap cacheEvictionMap;
+    private SimpleMeterRegistry meterRegistry;
+    private ThumbnailServiceImpl thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        minioClient = Mockito.mock(MinioClient.class);
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        cacheEvictionMap = Mockito.mock(CacheEvictionMap.class);
+        meterRegistry = new SimpleMeterRegistry();
+        MinioProperties minioProperties = new MinioProperties();
+        minioProperties.setBucket("images");
+        thumbnailService = new ThumbnailServiceImpl(minioClient,
+                minioProperties,
+                new ThumbnailProperties(),
+                jdbcTemplate,
+                cacheEvictionMap,
+                meterRegistry);
+        thumbnailService.init();
+    }
+
+    @Test
+    void createThumbnail() throws Exception {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1024, 512,
+                BufferedImage.TYPE_INT_RGB), "png", image);
+        Mockito.when(minioClient.getObject(
+                        ArgumentMatchers.any(GetObjectArgs.class)))
+                .thenReturn(new GetObjectResponse(Headers.of(),
+                        "images",
+                        null,
+                        "image.png",
+                        new ByteArrayInputStream(image.toByteArray())));
+        thumbnailService.createThumbnail(1L, "image.png");
+        ArgumentCaptor<PutObjectArgs> args =
+                ArgumentCaptor.forClass(PutObjectArgs.class);
+        Mockito.verify(minioClient).putObject(args.capture());
+        Assertions.assertEquals("thumbnails/image.png",
+                args.getValue().object());
+        Assertions.assertEquals("image/png", args.getValue().contentType());
+        BufferedImage thumbnail = ImageIO.read(args.getValue().stream());
+        Assertions.assertEquals(256, thumbnail.getWidth());
+        Assertions.assertEquals(128, thumbnail.getHeight());
+        Mockito.verify(jdbcTemplate).update(Mockito.anyString(),
+                Mockito.eq("thumbnails/image.png"),
+                Mockito.eq(1L),
+                Mockito.eq("thumbnails/image.png"));
+        Mockito.verify(cacheEvictionMap).evictTask(1L);
+    }
+
+    @Test
+    void createThumbnailFallsBackToPng() throws Exception {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(512, 512,
+                BufferedImage.TYPE_BYTE_BINARY), "wbmp", image);
+        Mockito.when(minioClient.getObject(
+                        ArgumentMatchers.any(GetObjectArgs.class)))
+                .thenReturn(new GetObjectResponse(Headers.of(),
+                        "images",
+                        null,
+                        "tasks/1/image.wbmp",
+                        new ByteArrayInputStream(image.toByteArray())));
+        thumbnailService.createThumbnail(1L, "tasks/1/image.wbmp");
+        ArgumentCaptor<PutObjectArgs> args =
+                ArgumentCaptor.forClass(PutObjectArgs.class);
+        Mockito.verify(minioClient).putObject(args.capture());
+        Assertions.assertEquals("thumbnails/tasks/1/image.png",
+                args.getValue().object());
+        Assertions.assertEquals("image/png", args.getValue().contentType());
+        Assertions.assertNotNull(ImageIO.read(args.getValue().stream()));
+        Mockito.verify(jdbcTemplate).update(Mockito.anyString(),
+                Mockito.eq("thumbnails/tasks/1/image.png"),
+                Mockito.eq(1L),
+                Mockito.eq("thumbnails/tasks/1/image.png"));
+    }
+
+    @Test
+    void createThumbnailForOversizedImage() throws Exception {
+        ThumbnailProperties properties = new ThumbnailProperties();
+        properties.setMaxPixels(1024 * 512 - 1);
+        MinioProperties minioProperties = new MinioProperties();
+        minioProperties.setBucket("images");
+        ThumbnailServiceImpl limitedService = new ThumbnailServiceImpl(
+                minioClient,
+                minioProperties,
+                properties,
+                jdbcTemplate,
+                cacheEvictionMap,
+                meterRegistry);
+        limitedService.init();
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1024, 512,
+                BufferedImage.TYPE_INT_RGB), "png", image);
+        Mockito.when(minioClient.getObject(
+                        ArgumentMatchers.any(GetObjectArgs.class)))
+                .thenReturn(new GetObjectResponse(Headers.of(),
+                        "images",
+                        null,
+                        "image.png",
+                        new ByteArrayInputStream(image.toByteArray())));
+        limitedService.createThumbnail(1L, "image.png");
+        Mockito.verify(minioClient, Mockito.never())
+                .putObject(ArgumentMatchers.any(PutObjectArgs.class));
+        Mockito.verifyNoInteractions(jdbcTemplate, cacheEvictionMap);
+        Assertions.assertEquals(1,
+                meterRegistry.counter("thumbnails.oversized").count());
+        limitedService.shutdown();
+    }
+
+    @Test
+    void createThumbnailForUnreadableImage() throws Exception {
+        Mockito.when(minioClient.getObject(
+                        ArgumentMatchers.any(GetObjectArgs.class)))
+                .thenThrow(new IllegalStateException("Not found"));
+        thumbnailService.createThumbnail(1L, "image.png");
+        Mockito.verify(minioClient, Mockito.never())
+                .putObject(ArgumentMatchers.any(PutObjectArgs.class));
+        Mockito.verifyNoInteractions(jdbcTemplate, cacheEvictionMap);
+        Assertions.assertEquals(1,
+                meterRegistry.counter("thumbnails.failed").count());
+    }
+}
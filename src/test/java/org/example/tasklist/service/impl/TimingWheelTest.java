@@ -0,0 +1,57 @@
+package org.example.tasklist.service.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void firesEntriesInTheirTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 4, START);
+        wheel.add(1L, START + 25);
+        wheel.add(2L, START + 5);
+        Assertions.assertEquals(List.of(2L), wheel.advance(START));
+        Assertions.assertEquals(List.of(), wheel.advance(START + 19));
+        Assertions.assertEquals(List.of(1L), wheel.advance(START + 20));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesDistantEntries() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 4, START);
+        long[] deadlines = {45, 160, 170, 700, 5_000};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.add((long) i, START + deadlines[i]);
+        }
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 6_000; now += 10) {
+            for (Long key : wheel.advance(now)) {
+                long deadline = START + deadlines[key.intValue()];
+                Assertions.assertTrue(now >= deadline - 10,
+                        "Fired too early: " + key);
+                Assertions.assertTrue(now < deadline + 10,
+                        "Fired too late: " + key);
+                fired.add(key);
+            }
+        }
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L, 4L), fired);
+    }
+
+    @Test
+    void rescheduleAndRemove() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 4, START);
+        wheel.add(1L, START + 500);
+        wheel.add(2L, START + 30);
+        wheel.add(1L, START + 20);
+        wheel.remove(2L);
+        wheel.addIfAbsent(1L, START + 900);
+        Assertions.assertEquals(List.of(1L), wheel.advance(START + 20));
+        Assertions.assertEquals(List.of(), wheel.advance(START + 1_000));
+        Assertions.assertFalse(wheel.contains(1L));
+    }
+}
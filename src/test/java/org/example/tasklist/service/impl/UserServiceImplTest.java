@@ -1,14 +1,18 @@
 package org.example.tasklist.service.impl;
 
+import org.example.tasklist.config.CacheEvictionMap;
 import org.example.tasklist.config.TestConfig;
 import org.example.tasklist.domain.MailType;
 import org.example.tasklist.domain.exception.ResourceNotFoundException;
 import org.example.tasklist.domain.user.Role;
 import org.example.tasklist.domain.user.User;
 import org.example.tasklist.repository.UserRepository;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TokenDenyList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +21,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Properties;
@@ -34,11 +42,18 @@ public class UserServiceImplTest {
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
     @MockBean
-    private MailServiceImpl mailService;
+    private MailOutboxServiceImpl mailOutboxService;
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+    @MockBean
+    private CacheEvictionMap cacheEvictionMap;
 
     @Autowired
     private UserServiceImpl userService;
 
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
 
     @Test
     void getById() {
@@ -94,15 +109,37 @@ public class UserServiceImplTest {
         Mockito.verify(userRepository).save(user);
     }
 
+    @Test
+    void updatePassword() {
+        Long id = 1L;
+        User user = new User();
+        user.setId(id);
+        user.setUsername("username");
+        user.setPassword("oldHash");
+        Mockito.when(userRepository.findById(id))
+                .thenReturn(Optional.of(user));
+        userService.updatePassword(id, "newHash");
+        Assertions.assertEquals("newHash", user.getPassword());
+        InOrder inOrder = Mockito.inOrder(userRepository, cacheEvictionMap);
+        inOrder.verify(userRepository).save(user);
+        inOrder.verify(cacheEvictionMap).evictUser(Mockito.eq(id),
+                Mockito.eq(List.of("username")),
+                Mockito.any());
+        Mockito.verify(passwordEncoder, Mockito.never())
+                .encode(Mockito.any());
+    }
+
     @Test
     void isTaskOwner(){
         Long userId = 1L;
         Long taskId = 1L;
-        Mockito.when(userRepository.isTaskOwner(userId, taskId))
-                .thenReturn(true);
+        Mockito.when(userRepository.findTaskIds(userId))
+                .thenReturn(List.of(3L, taskId));
         boolean isOwner = userService.isTaskOwner(userId, taskId);
-        Mockito.verify(userRepository).isTaskOwner(userId, taskId);
+        boolean isOwnerOfOtherTask = userService.isTaskOwner(userId, 2L);
+        Mockito.verify(userRepository).findTaskIds(userId);
         Assertions.assertTrue(isOwner);
+        Assertions.assertFalse(isOwnerOfOtherTask);
     }
 
     @Test
@@ -119,7 +156,7 @@ public class UserServiceImplTest {
                 .thenReturn("encodedPassword");
         User testUser = userService.create(user);
         Mockito.verify(userRepository).save(user);
-        Mockito.verify(mailService).sendEmail(user,
+        Mockito.verify(mailOutboxService).enqueue(user,
                 MailType.REGISTRATION,
                 new Properties());
         Assertions.assertEquals(Set.of(Role.ROLE_USER), testUser.getRoles());
@@ -161,7 +198,29 @@ public class UserServiceImplTest {
     @Test
     void delete(){
         Long id = 1L;
+        Date issuedAt = new Date(System.currentTimeMillis() - 60_000);
         userService.delete(id);
         Mockito.verify(userRepository).deleteById(id);
+        Assertions.assertTrue(tokenDenyList.isRevoked(id, issuedAt));
+        Mockito.verify(refreshTokenStore).revokeUser(id);
+    }
+
+    @Test
+    void deleteRevokesTokensAfterCommit() {
+        Long id = 2L;
+        Date issuedAt = new Date(System.currentTimeMillis() - 60_000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.delete(id);
+            Assertions.assertFalse(tokenDenyList.isRevoked(id, issuedAt));
+            Mockito.verify(refreshTokenStore, Mockito.never())
+                    .revokeUser(id);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Assertions.assertTrue(tokenDenyList.isRevoked(id, issuedAt));
+        Mockito.verify(refreshTokenStore).revokeUser(id);
     }
 }
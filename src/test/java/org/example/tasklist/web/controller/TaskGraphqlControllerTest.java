@@ -0,0 +1,220 @@
+package org.example.tasklist.web.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.tasklist.config.CacheEvictionMap;
+import org.example.tasklist.config.GraphqlConfig;
+import org.example.tasklist.config.PersistedDocumentProvider;
+import org.example.tasklist.service.ImageService;
+import org.example.tasklist.service.MailOutboxService;
+import org.example.tasklist.service.ThumbnailService;
+import org.example.tasklist.service.impl.ReminderSchedule;
+import org.example.tasklist.service.impl.TaskServiceImpl;
+import org.example.tasklist.service.impl.UserServiceImpl;
+import org.example.tasklist.service.props.GraphqlCostProperties;
+import org.example.tasklist.service.props.GraphqlDocumentProperties;
+import org.example.tasklist.service.props.TaskProperties;
+import org.example.tasklist.web.mappers.TaskMapperImpl;
+import org.example.tasklist.web.mappers.TaskSearchMapperImpl;
+import org.example.tasklist.web.mappers.UserMapperImpl;
+import org.example.tasklist.web.security.RefreshTokenStore;
+import org.example.tasklist.web.security.TaskOwnershipIndex;
+import org.example.tasklist.web.security.TokenDenyList;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@GraphQlTest(TaskGraphqlController.class)
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "graphql.cost.max-cost=100000",
+        "graphql.cost.budget=1000000"
+})
+@Import({GraphqlConfig.class,
+        GraphqlCostProperties.class,
+        GraphqlDocumentProperties.class,
+        PersistedDocumentProvider.class,
+        SimpleMeterRegistry.class,
+        TaskServiceImpl.class,
+        UserServiceImpl.class,
+        TaskProperties.class,
+        TaskMapperImpl.class,
+        TaskSearchMapperImpl.class,
+        UserMapperImpl.class})
+@Sql("/sql/tasks-schema.sql")
+public class TaskGraphqlControllerTest {
+
+    private static final long USER_ID = 1L;
+    private static final int TASKS_COUNT = 500;
+
+    @MockBean
+    private ImageService imageService;
+
+    @MockBean
+    private ThumbnailService thumbnailService;
+
+    @MockBean
+    private CacheEvictionMap cacheEvictionMap;
+
+    @MockBean
+    private TaskOwnershipIndex taskOwnershipIndex;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private MailOutboxService mailOutboxService;
+
+    @MockBean
+    private TokenDenyList tokenDenyList;
+
+    @MockBean
+    private ReminderSchedule reminderSchedule;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM tasks_images");
+        jdbcTemplate.execute("DELETE FROM tasks_thumbnails");
+        jdbcTemplate.execute("DELETE FROM users_tasks");
+        jdbcTemplate.execute("DELETE FROM tasks");
+        jdbcTemplate.execute("DELETE FROM users");
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, username, password)
+                VALUES (?, 'Mike', 'mike@gmail.com', 'password')
+                """, USER_ID);
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> links = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        List<Object[]> thumbnails = new ArrayList<>();
+        for (long id = 1; id <= TASKS_COUNT; id++) {
+            tasks.add(new Object[]{id, "title" + id, "TODO"});
+            links.add(new Object[]{USER_ID, id});
+            images.add(new Object[]{id, id + "-1.png"});
+            images.add(new Object[]{id, id + "-2.png"});
+            thumbnails.add(new Object[]{id, "thumbnails/" + id + "-1.png"});
+            thumbnails.add(new Object[]{id, "thumbnails/" + id + "-2.png"});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tasks (id, title, status) VALUES (?, ?, ?)",
+                tasks);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users_tasks (user_id, task_id) VALUES (?, ?)",
+                links);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tasks_images (task_id, image) VALUES (?, ?)",
+                images);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks_thumbnails (task_id, thumbnail)
+                VALUES (?, ?)
+                """, thumbnails);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void tasksByUserIdRunsFixedNumberOfStatements() {
+        graphQlTester.document("""
+                        {
+                          tasksByUserId(id: 1) {
+                            id
+                            images
+                            thumbnails
+                            author { id username }
+                          }
+                        }
+                        """)
+                .execute()
+                .path("tasksByUserId")
+                .entityList(Object.class)
+                .hasSize(TASKS_COUNT)
+                .path("tasksByUserId[0].images")
+                .entityList(String.class)
+                .containsExactly("1-1.png", "1-2.png")
+                .path("tasksByUserId[0].thumbnails")
+                .entityList(String.class)
+                .containsExactly("thumbnails/1-1.png", "thumbnails/1-2.png")
+                .path("tasksByUserId[499].author.username")
+                .entity(String.class)
+                .isEqualTo("mike@gmail.com");
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void taskByIdFanOutRunsFixedNumberOfStatements() {
+        StringBuilder document = new StringBuilder("{");
+        for (int i = 0; i < TASKS_COUNT; i++) {
+            document.append("t").append(i)
+                    .append(": taskById(id: ").append(i % 250 + 1)
+                    .append(") { id images author { username } } ");
+        }
+        document.append("}");
+        graphQlTester.document(document.toString())
+                .execute()
+                .path("t0.images")
+                .entityList(String.class)
+                .containsExactly("1-1.png", "1-2.png")
+                .path("t250.id")
+                .entity(Long.class)
+                .isEqualTo(1L)
+                .path("t499.author.username")
+                .entity(String.class)
+                .isEqualTo("mike@gmail.com");
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void queryOverCostLimitIsRejectedBeforeExecution() {
+        graphQlTester.document("""
+                        {
+                          tasksPageByUserId(id: 1, size: 100000) {
+                            items { id title }
+                          }
+                        }
+                        """)
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    Assertions.assertEquals(1, errors.size());
+                    Assertions.assertTrue(errors.get(0).getMessage()
+                            .contains("exceeds the limit of 100000"));
+                });
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.tasklist.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.tasklist.domain.task.Task;
+import org.example.tasklist.domain.task.TaskFormat;
+import org.example.tasklist.service.TaskService;
+import org.example.tasklist.service.TaskTransferService;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.web.dto.task.TaskDto;
+import org.example.tasklist.web.mappers.TaskBulkMapper;
+import org.example.tasklist.web.mappers.TaskBulkResultMapper;
+import org.example.tasklist.web.mappers.TaskMapper;
+import org.example.tasklist.web.mappers.TaskSearchMapper;
+import org.example.tasklist.web.mappers.UserMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+public class UserControllerTest {
+
+    private static final long ASYNC_TIMEOUT = 50;
+
+    private TaskService taskService;
+    private TaskMapper taskMapper;
+    private TaskTransferService taskTransferService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskService = Mockito.mock(TaskService.class);
+        taskTransferService = Mockito.mock(TaskTransferService.class);
+        taskMapper = Mockito.mock(TaskMapper.class);
+        UserController controller = new UserController(
+                Mockito.mock(UserService.class),
+                taskService,
+                taskTransferService,
+                Mockito.mock(UserMapper.class),
+                taskMapper,
+                Mockito.mock(TaskBulkMapper.class),
+                Mockito.mock(TaskBulkResultMapper.class),
+                Mockito.mock(TaskSearchMapper.class),
+                new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setAsyncRequestTimeout(ASYNC_TIMEOUT)
+                .build();
+    }
+
+    @Test
+    void exportOutlivesAsyncTimeout() throws Exception {
+        Mockito.doAnswer(invocationOnMock -> {
+            OutputStream output = invocationOnMock.getArgument(2);
+            output.write("id,title\n".getBytes(StandardCharsets.UTF_8));
+            Thread.sleep(ASYNC_TIMEOUT * 4);
+            output.write("1,title\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(taskTransferService).exportTasks(Mockito.eq(1L),
+                Mockito.eq(TaskFormat.CSV),
+                Mockito.any(OutputStream.class));
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/users/1/tasks/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncNotStarted())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks.csv\""))
+                .andExpect(MockMvcResultMatchers.content()
+                        .string("id,title\n1,title\n"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamOutlivesAsyncTimeout() throws Exception {
+        Mockito.doAnswer(invocationOnMock -> {
+            Consumer<Task> consumer = invocationOnMock.getArgument(1);
+            consumer.accept(task(1L));
+            Thread.sleep(ASYNC_TIMEOUT * 4);
+            consumer.accept(task(2L));
+            return null;
+        }).when(taskService).streamAllByUserId(Mockito.eq(1L),
+                Mockito.any(Consumer.class));
+        Mockito.when(taskMapper.toDto(Mockito.any(Task.class)))
+                .thenAnswer(invocationOnMock -> {
+                    Task task = invocationOnMock.getArgument(0);
+                    TaskDto dto = new TaskDto();
+                    dto.setId(task.getId());
+                    return dto;
+                });
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users/1/tasks")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.request().asyncNotStarted())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(
+                        Matchers.allOf(
+                                Matchers.startsWith("{\"id\":1,"),
+                                Matchers.containsString("\n{\"id\":2,"))));
+    }
+
+    private Task task(final Long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.tasklist.web.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.domain.exception.ServiceUnavailableException;
+import org.example.tasklist.service.props.PasswordProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class BoundedPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PasswordProperties properties = new PasswordProperties();
+        properties.setStrength(5);
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        passwordEncoder = new BoundedPasswordEncoder(properties,
+                meterRegistry);
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void encodeAndMatch() {
+        String encoded = passwordEncoder.encode("password");
+        Assertions.assertTrue(encoded.startsWith("$2a$05$"));
+        Assertions.assertTrue(passwordEncoder.matches("password", encoded));
+        Assertions.assertFalse(passwordEncoder.matches("other", encoded));
+        Assertions.assertEquals(3, meterRegistry
+                .get("password.hashing.duration")
+                .tag("operation", "matches")
+                .timer()
+                .count() + meterRegistry
+                .get("password.hashing.duration")
+                .tag("operation", "encode")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void upgradeEncodingWhenStrengthChanged() {
+        String current = passwordEncoder.encode("password");
+        String stronger = new BCryptPasswordEncoder(6).encode("password");
+        Assertions.assertFalse(passwordEncoder.upgradeEncoding(current));
+        Assertions.assertTrue(passwordEncoder.upgradeEncoding(stronger));
+        Assertions.assertTrue(passwordEncoder.matches("password", stronger));
+        Assertions.assertFalse(passwordEncoder.upgradeEncoding(null));
+    }
+
+    @Test
+    void rejectWhenExecutorIsUnavailable() {
+        passwordEncoder.shutdown();
+        Assertions.assertThrows(ServiceUnavailableException.class,
+                () -> passwordEncoder.encode("password"));
+        Assertions.assertEquals(1, meterRegistry
+                .get("password.hashing.rejected")
+                .tag("reason", "queue_full")
+                .counter()
+                .count());
+    }
+}
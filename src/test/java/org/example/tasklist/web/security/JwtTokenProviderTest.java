@@ -0,0 +1,164 @@
+package org.example.tasklist.web.security;
+
+import org.example.tasklist.domain.exception.AccessDeniedException;
+import org.example.tasklist.domain.user.Role;
+import org.example.tasklist.domain.user.User;
+import org.example.tasklist.service.UserService;
+import org.example.tasklist.service.props.JwtProperties;
+import org.example.tasklist.web.dto.auth.JwtResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.Set;
+
+public class JwtTokenProviderTest {
+
+    private UserService userService;
+    private RefreshTokenStore refreshTokenStore;
+    private TokenDenyList tokenDenyList;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(
+                "dmdqYmhqbmttYmNhamNjZWhxa25hd2puY2xhZWtic3ZlaGtzYmJ1dg==");
+        properties.setAccess(1L);
+        properties.setRefresh(30L);
+        properties.setStateless(true);
+        userService = Mockito.mock(UserService.class);
+        refreshTokenStore = Mockito.mock(RefreshTokenStore.class);
+        tokenDenyList = new TokenDenyList(properties,
+                Mockito.mock(StringRedisTemplate.class),
+                Mockito.mock(RedisMessageListenerContainer.class));
+        tokenDenyList.init();
+        tokenProvider = new JwtTokenProvider(properties,
+                userService,
+                Mockito.mock(UserDetailsService.class),
+                tokenDenyList,
+                refreshTokenStore);
+        tokenProvider.init();
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+        user.setRoles(Set.of(Role.ROLE_USER));
+        Mockito.when(userService.getById(1L))
+                .thenReturn(user);
+        Mockito.when(refreshTokenStore.start(Mockito.eq(1L),
+                        Mockito.anyString()))
+                .thenReturn("family");
+    }
+
+    @Test
+    void refreshRotatesTokenInFamily() {
+        Mockito.when(refreshTokenStore.rotate(Mockito.eq(1L),
+                        Mockito.eq("family"),
+                        Mockito.anyString(),
+                        Mockito.anyString()))
+                .thenReturn(RefreshTokenStore.Rotation.ROTATED);
+        String refreshToken = tokenProvider.createRefreshToken(1L,
+                "username");
+        ArgumentCaptor<String> issued = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(refreshTokenStore).start(Mockito.eq(1L),
+                issued.capture());
+        JwtResponse response = tokenProvider.refreshUserTokens(refreshToken);
+        ArgumentCaptor<String> next = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(refreshTokenStore).rotate(Mockito.eq(1L),
+                Mockito.eq("family"),
+                Mockito.eq(issued.getValue()),
+                next.capture());
+        Assertions.assertEquals(1L, response.getId());
+        Assertions.assertEquals("username", response.getUsername());
+        Assertions.assertNotNull(response.getAccessToken());
+        tokenProvider.refreshUserTokens(response.getRefreshToken());
+        Mockito.verify(refreshTokenStore).rotate(Mockito.eq(1L),
+                Mockito.eq("family"),
+                Mockito.eq(next.getValue()),
+                Mockito.anyString());
+    }
+
+    @Test
+    void refreshWithReusedToken() {
+        Mockito.when(refreshTokenStore.rotate(Mockito.eq(1L),
+                        Mockito.eq("family"),
+                        Mockito.anyString(),
+                        Mockito.anyString()))
+                .thenReturn(RefreshTokenStore.Rotation.REUSED);
+        String refreshToken = tokenProvider.createRefreshToken(1L,
+                "username");
+        Assertions.assertThrows(AccessDeniedException.class,
+                () -> tokenProvider.refreshUserTokens(refreshToken));
+        Mockito.verify(userService, Mockito.never()).getById(1L);
+    }
+
+    @Test
+    void authenticationRejectsTokenIssuedBeforeRevocation()
+            throws Exception {
+        String accessToken = tokenProvider.createAccessToken(1L,
+                "username",
+                Set.of(Role.ROLE_USER));
+        Thread.sleep(2);
+        tokenDenyList.revokeUser(1L);
+        Assertions.assertNull(tokenProvider.getAuthentication(accessToken));
+    }
+
+    @Test
+    void authenticationAcceptsTokenIssuedAfterRevocation()
+            throws Exception {
+        tokenDenyList.revokeUser(1L);
+        Thread.sleep(2);
+        String accessToken = tokenProvider.createAccessToken(1L,
+                "username",
+                Set.of(Role.ROLE_USER));
+        Assertions.assertNotNull(
+                tokenProvider.getAuthentication(accessToken));
+    }
+
+    @Test
+    void authenticationLoadsUserForCachedToken() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(
+                "dmdqYmhqbmttYmNhamNjZWhxa25hd2puY2xhZWtic3ZlaGtzYmJ1dg==");
+        properties.setAccess(1L);
+        properties.setRefresh(30L);
+        UserDetailsService userDetailsService =
+                Mockito.mock(UserDetailsService.class);
+        JwtTokenProvider statefulProvider = new JwtTokenProvider(properties,
+                userService,
+                userDetailsService,
+                tokenDenyList,
+                refreshTokenStore);
+        statefulProvider.init();
+        Mockito.when(userDetailsService.loadUserByUsername("username"))
+                .thenReturn(JwtEntityFactory.create(1L, "username",
+                        List.of(Role.ROLE_USER.name())))
+                .thenReturn(JwtEntityFactory.create(1L, "username",
+                        List.of(Role.ROLE_ADMIN.name())));
+        String accessToken = statefulProvider.createAccessToken(1L,
+                "username",
+                Set.of(Role.ROLE_USER));
+        Assertions.assertEquals(Role.ROLE_USER.name(), statefulProvider
+                .getAuthentication(accessToken).getAuthorities()
+                .iterator().next().getAuthority());
+        Assertions.assertEquals(Role.ROLE_ADMIN.name(), statefulProvider
+                .getAuthentication(accessToken).getAuthorities()
+                .iterator().next().getAuthority());
+    }
+
+    @Test
+    void refreshWithAccessToken() {
+        String accessToken = tokenProvider.createAccessToken(1L,
+                "username",
+                Set.of(Role.ROLE_USER));
+        Assertions.assertThrows(AccessDeniedException.class,
+                () -> tokenProvider.refreshUserTokens(accessToken));
+        Mockito.verifyNoInteractions(refreshTokenStore);
+    }
+}
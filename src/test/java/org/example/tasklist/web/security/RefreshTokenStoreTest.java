@@ -0,0 +1,68 @@
+package org.example.tasklist.web.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tasklist.service.props.JwtProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class RefreshTokenStoreTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setRefresh(30L);
+        redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        zSetOperations = Mockito.mock(ZSetOperations.class);
+        Mockito.when(redisTemplate.opsForZSet())
+                .thenReturn(zSetOperations);
+        refreshTokenStore = new RefreshTokenStore(properties,
+                redisTemplate,
+                new SimpleMeterRegistry());
+        refreshTokenStore.init();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void revokeUserPassesFamilyKeys() {
+        Mockito.when(zSetOperations.range("refresh:{1}:families", 0, -1))
+                .thenReturn(new LinkedHashSet<>(List.of("a", "b")));
+        refreshTokenStore.revokeUser(1L);
+        ArgumentCaptor<List<String>> keys =
+                ArgumentCaptor.forClass(List.class);
+        Mockito.verify(redisTemplate).execute(
+                Mockito.any(RedisScript.class),
+                keys.capture(),
+                Mockito.eq("a"),
+                Mockito.eq("b"));
+        Assertions.assertEquals(List.of("refresh:{1}:families",
+                        "refresh:{1}:a",
+                        "refresh:{1}:b"),
+                keys.getValue());
+    }
+
+    @Test
+    void revokeUserWithoutFamilies() {
+        Mockito.when(zSetOperations.range("refresh:{1}:families", 0, -1))
+                .thenReturn(Set.of());
+        refreshTokenStore.revokeUser(1L);
+        Mockito.verify(redisTemplate, Mockito.never()).execute(
+                Mockito.<RedisScript<Long>>any(),
+                Mockito.anyList(),
+                Mockito.<Object[]>any());
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.tasklist.web.security;
+
+import org.example.tasklist.repository.UserRepository;
+import org.example.tasklist.service.props.TaskProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+public class TaskOwnershipIndexTest {
+
+    private UserRepository userRepository;
+    private StringRedisTemplate redisTemplate;
+    private TaskOwnershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        index = new TaskOwnershipIndex(userRepository,
+                new TaskProperties(),
+                redisTemplate,
+                Mockito.mock(RedisMessageListenerContainer.class));
+        index.init();
+        Mockito.when(userRepository.findTaskIds(1L))
+                .thenReturn(List.of(5L, 2L, 9L));
+    }
+
+    @Test
+    void isOwnerLoadsOnce() {
+        Assertions.assertTrue(index.isOwner(1L, 2L));
+        Assertions.assertTrue(index.isOwner(1L, 9L));
+        Assertions.assertFalse(index.isOwner(1L, 3L));
+        Mockito.verify(userRepository, Mockito.times(1)).findTaskIds(1L);
+    }
+
+    @Test
+    void isOwnerWithNullIds() {
+        Assertions.assertFalse(index.isOwner(null, 2L));
+        Assertions.assertFalse(index.isOwner(1L, null));
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void addTask() {
+        Assertions.assertFalse(index.isOwner(1L, 7L));
+        index.addTask(1L, 7L);
+        Assertions.assertTrue(index.isOwner(1L, 7L));
+        Assertions.assertTrue(index.isOwner(1L, 5L));
+        Mockito.verify(userRepository, Mockito.times(1)).findTaskIds(1L);
+        Mockito.verify(redisTemplate).convertAndSend(
+                Mockito.eq("task-ownership"), Mockito.endsWith("|1"));
+    }
+
+    @Test
+    void removeTask() {
+        Assertions.assertTrue(index.isOwner(1L, 5L));
+        index.removeTask(1L, 5L);
+        Assertions.assertFalse(index.isOwner(1L, 5L));
+        Assertions.assertTrue(index.isOwner(1L, 9L));
+        Mockito.verify(userRepository, Mockito.times(1)).findTaskIds(1L);
+    }
+
+    @Test
+    void invalidationFromOtherNode() {
+        Assertions.assertFalse(index.isOwner(1L, 7L));
+        Mockito.when(userRepository.findTaskIds(1L))
+                .thenReturn(List.of(7L));
+        index.onInvalidation("other-node|1");
+        Assertions.assertTrue(index.isOwner(1L, 7L));
+        Mockito.verify(userRepository, Mockito.times(2)).findTaskIds(1L);
+    }
+}
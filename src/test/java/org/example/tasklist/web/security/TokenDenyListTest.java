@@ -0,0 +1,61 @@
+package org.example.tasklist.web.security;
+
+import org.example.tasklist.service.props.JwtProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Date;
+
+public class TokenDenyListTest {
+
+    private JwtProperties properties;
+    private StringRedisTemplate redisTemplate;
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setAccess(1L);
+        redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        tokenDenyList = newDenyList();
+    }
+
+    @Test
+    void revocationReachesOtherNodes() {
+        TokenDenyList otherNode = newDenyList();
+        Date issuedAt = new Date(System.currentTimeMillis() - 60_000);
+        tokenDenyList.revokeUser(1L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(redisTemplate).convertAndSend(
+                Mockito.eq("token-revocations"), message.capture());
+        Assertions.assertFalse(otherNode.isRevoked(1L, issuedAt));
+        otherNode.onRevocation(message.getValue());
+        Assertions.assertTrue(otherNode.isRevoked(1L, issuedAt));
+        Assertions.assertFalse(otherNode.isRevoked(2L, issuedAt));
+    }
+
+    @Test
+    void ownRevocationIsIgnored() {
+        Date issuedAt = new Date(System.currentTimeMillis() - 60_000);
+        tokenDenyList.revokeUser(1L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(redisTemplate).convertAndSend(
+                Mockito.eq("token-revocations"), message.capture());
+        String[] parts = message.getValue().split("\\|");
+        tokenDenyList.onRevocation(parts[0] + "|2|" + parts[2]);
+        Assertions.assertFalse(tokenDenyList.isRevoked(2L, issuedAt));
+    }
+
+    private TokenDenyList newDenyList() {
+        TokenDenyList denyList = new TokenDenyList(properties,
+                redisTemplate,
+                Mockito.mock(RedisMessageListenerContainer.class));
+        denyList.init();
+        return denyList;
+    }
+}
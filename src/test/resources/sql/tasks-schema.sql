@@ -0,0 +1,38 @@
+create sequence if not exists tasks_id_seq start with 1 increment by 50;
+
+create table if not exists tasks
+(
+    id              bigint generated by default as identity primary key,
+    title           varchar(255) not null,
+    description     varchar(255) null,
+    status          varchar(255) not null,
+    expiration_date timestamp    null
+);
+
+create table if not exists users
+(
+    id       bigint generated by default as identity primary key,
+    name     varchar(255) not null,
+    username varchar(255) not null unique,
+    password varchar(255) not null
+);
+
+create table if not exists users_tasks
+(
+    user_id bigint not null,
+    task_id bigint not null,
+    primary key (user_id, task_id)
+);
+
+create table if not exists tasks_images
+(
+    task_id bigint       not null,
+    image   varchar(255) not null
+);
+
+create table if not exists tasks_thumbnails
+(
+    task_id   bigint       not null,
+    thumbnail varchar(255) not null,
+    primary key (task_id, thumbnail)
+);